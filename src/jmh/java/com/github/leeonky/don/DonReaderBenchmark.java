@@ -0,0 +1,111 @@
+package com.github.leeonky.don;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.github.leeonky.util.NumberResult;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DonReaderBenchmark {
+    private String content;
+    private char[] chars;
+    private byte[] bytes;
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        Random random = new Random(0);
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 20000; i++)
+            builder.append(i == 0 ? "" : ",").append("{\"id\": ").append(i).append(", \"price\": ")
+                    .append(random.nextInt(100000) / 100.0).append(", \"name\": \"item").append(i)
+                    .append("\", \"active\": ").append(random.nextBoolean()).append("}");
+        content = builder.append("]").toString();
+        chars = content.toCharArray();
+        bytes = content.getBytes(StandardCharsets.UTF_8);
+        file = Files.createTempFile("don", ".don");
+        Files.write(file, bytes);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public long readChars() {
+        return sum(new DonReader(chars, 0, chars.length));
+    }
+
+    @Benchmark
+    public long readReader() {
+        return sum(new DonReader(new StringReader(content)));
+    }
+
+    @Benchmark
+    public long pushChunks() {
+        long[] sum = new long[1];
+        DonPushParser parser = new DonPushParser(new DonListener() {
+            @Override
+            public void number(NumberResult value) {
+                sum[0] += value.longValue();
+            }
+        });
+        for (int i = 0; i < bytes.length; i += 8192)
+            parser.feed(ByteBuffer.wrap(bytes, i, Math.min(8192, bytes.length - i)));
+        parser.end();
+        return sum[0];
+    }
+
+    @Benchmark
+    public long readFile() throws IOException {
+        try (Reader reader = Files.newBufferedReader(file)) {
+            return sum(new DonReader(reader));
+        }
+    }
+
+    @Benchmark
+    public long mapFile() throws IOException {
+        long[] sum = new long[1];
+        new DonMappedParser().parse(file, new DonListener() {
+            @Override
+            public void number(NumberResult value) {
+                sum[0] += value.longValue();
+            }
+        });
+        return sum[0];
+    }
+
+    @Benchmark
+    public double indexThenReadOneField() {
+        return new DonIndex(chars, 0, chars.length).root().get(10000).get("price").getDouble();
+    }
+
+    @Benchmark
+    public Object parseTree() {
+        return new DonParser().parse(content);
+    }
+
+    private long sum(DonReader reader) {
+        long sum = 0;
+        DonToken token;
+        while ((token = reader.next()) != DonToken.END_DOCUMENT)
+            if (token == DonToken.NUMBER)
+                sum += reader.getLong();
+        return sum;
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.leeonky.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberParserBatchBenchmark {
+    private final NumberParser numberParser = new NumberParser();
+    private final NumberBatchParser batchParser = new NumberBatchParser(numberParser);
+    private final NumberColumnParser columnParser = new NumberColumnParser(numberParser);
+
+    @Param({"1000000"})
+    public int cells;
+
+    private String[] contents;
+    private String delimited;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        contents = new String[cells];
+        for (int i = 0; i < cells; i++)
+            contents[i] = random.nextBoolean() ? String.valueOf(random.nextInt())
+                    : String.valueOf(random.nextInt(100000) / 100.0);
+        delimited = String.join(",", contents);
+    }
+
+    @Benchmark
+    public Number[] sequential() {
+        Number[] numbers = new Number[contents.length];
+        for (int i = 0; i < contents.length; i++)
+            numbers[i] = numberParser.parse(contents[i]);
+        return numbers;
+    }
+
+    @Benchmark
+    public NumberBatchResult batch() {
+        return batchParser.parse(contents);
+    }
+
+    @Benchmark
+    public NumberBatchResult batchDelimited() {
+        return batchParser.parse(delimited, 0, delimited.length(), ',');
+    }
+
+    @Benchmark
+    public NumberColumn column() {
+        return columnParser.parse(contents);
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.leeonky.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberParserBenchmark {
+    private final NumberParser numberParser = new NumberParser();
+    private final NumberResult result = new NumberResult();
+
+    @Param({
+            "7", "123456", "12345678", "1234567890123456", "123456789012345678",
+            "2147483648", "-9223372036854775808",
+            "9223372036854775808", "123456789012345678901234567890",
+            "0x7fffffff", "0xcafebabecafebabe", "0xda39a3ee5e6b4b0d3255bfef95601890afd80709", "0b1010_1010", "0777",
+            "1_000_000",
+            "3.14159", "-0.000123456789", "6.02214076e23", "1.5E-7",
+            "1y", "-1s", "1l", "1f", "1d", "1bi", "1bd", "1.5f", "1.5bd", "12345678901234567890.123456789012345678bd",
+            "12x", "notNumber", "1_", "1.e5"})
+    public String input;
+
+    @Benchmark
+    public Number parse() {
+        return numberParser.parse(input);
+    }
+
+    @Benchmark
+    public boolean parseToResult() {
+        return numberParser.parse(input, result);
+    }
+
+    @Benchmark
+    public NumberType classify() {
+        return numberParser.classify(input);
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.leeonky.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberParserCacheBenchmark {
+    private static final String[] LITERALS = {"0", "1", "200", "404", "500", "1.0", "0.5", "19.99", "99.95",
+            "1000000", "3.14159", "-1", "2147483648", "1.5e10", "100bd", "0.01bd"};
+
+    private final NumberParser numberParser = new NumberParser();
+    private final NumberParserCache cache = new NumberParserCache(numberParser, 1024);
+    private final String[] literals = new String[LITERALS.length];
+    private int index;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < LITERALS.length; i++)
+            literals[i] = new String(LITERALS[i].toCharArray());
+    }
+
+    @Benchmark
+    public Number parse() {
+        return numberParser.parse(literals[index++ & (LITERALS.length - 1)]);
+    }
+
+    @Benchmark
+    public Number parseWithCache() {
+        return cache.parse(literals[index++ & (LITERALS.length - 1)]);
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.leeonky.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberParserDecimalBenchmark {
+    private final NumberParser numberParser = new NumberParser();
+    private final NumberResult result = new NumberResult();
+
+    @Param({"12345678", "1234567890123456", "123456789012345678", "-9223372036854775808"})
+    public String input;
+
+    private char[] chars;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        chars = input.toCharArray();
+        bytes = input.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public boolean string() {
+        return numberParser.parse(input, result);
+    }
+
+    @Benchmark
+    public boolean chars() {
+        return numberParser.parse(chars, 0, chars.length, result);
+    }
+
+    @Benchmark
+    public boolean bytes() {
+        return numberParser.parse(bytes, 0, bytes.length, result);
+    }
+}
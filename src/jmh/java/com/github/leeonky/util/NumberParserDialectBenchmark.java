@@ -0,0 +1,34 @@
+package com.github.leeonky.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberParserDialectBenchmark {
+    private final NumberResult result = new NumberResult();
+
+    @Param({"7", "0", "123456", "12345678901", "-9223372036854775808", "3.14159", "-0.000123456789", "6.02214076e23"})
+    public String input;
+
+    @Param({"full", "plain"})
+    public String dialect;
+
+    private NumberParser numberParser;
+
+    @Setup
+    public void setup() {
+        numberParser = dialect.equals("plain") ? NumberParser.builder().underscore(false).hexadecimal(false)
+                .octal(false).binary(false).postfix(false).bigDecimalFallback(false).build() : new NumberParser();
+    }
+
+    @Benchmark
+    public boolean parseToResult() {
+        return numberParser.parse(input, result);
+    }
+}
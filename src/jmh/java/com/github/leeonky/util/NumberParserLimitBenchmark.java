@@ -0,0 +1,41 @@
+package com.github.leeonky.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberParserLimitBenchmark {
+    private static final String HUGE_DIGITS = String.join("", Collections.nCopies(100000, "9"));
+
+    @Param({"3.14159", "123456789012345678901234567890", "1e999999999bd", "HUGE_DIGITS"})
+    public String input;
+
+    @Param({"false", "true"})
+    public boolean limited;
+
+    private NumberParser numberParser;
+    private String content;
+
+    @Setup
+    public void setup() {
+        numberParser = limited ? new NumberParser().withMaxDigits(1000).withMaxExponent(1000).withMaxBitLength(4096)
+                : new NumberParser();
+        content = input.equals("HUGE_DIGITS") ? HUGE_DIGITS : input;
+    }
+
+    @Benchmark
+    public Object parse() {
+        try {
+            return numberParser.parse(content);
+        } catch (NumberLimitExceededException e) {
+            return e;
+        }
+    }
+}
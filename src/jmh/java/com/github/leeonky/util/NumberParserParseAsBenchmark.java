@@ -0,0 +1,55 @@
+package com.github.leeonky.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberParserParseAsBenchmark {
+    private final NumberParser numberParser = new NumberParser();
+    private final NumberResult result = new NumberResult();
+
+    @Param({"7", "123456", "9876543210", "1234567890123456"})
+    public String input;
+
+    @Benchmark
+    public long parseThenLong() {
+        return numberParser.parse(input).longValue();
+    }
+
+    @Benchmark
+    public Long parseThenBoxedLong() {
+        return Long.valueOf(numberParser.parse(input).longValue());
+    }
+
+    @Benchmark
+    public Long parseAsLong() {
+        return numberParser.parseAs(input, Long.class);
+    }
+
+    @Benchmark
+    public long parseAsLongToResult() {
+        numberParser.parseAs(input, 0, input.length(), long.class, result);
+        return result.longValue();
+    }
+
+    @Benchmark
+    public BigDecimal parseThenBigDecimal() {
+        Number number = numberParser.parse(input);
+        if (number instanceof BigInteger)
+            return new BigDecimal((BigInteger) number);
+        return BigDecimal.valueOf(number.longValue());
+    }
+
+    @Benchmark
+    public BigDecimal parseAsBigDecimal() {
+        return numberParser.parseAs(input, BigDecimal.class);
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.leeonky.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberParserScratchBufferBenchmark {
+    private final NumberResult result = new NumberResult();
+
+    @Param({"1.00000000000000011102230246251565404236316680908203125", "1.000000059604644775390625f"})
+    public String input;
+
+    @Param({"0", "1024"})
+    public int scratchBufferSize;
+
+    private NumberParser numberParser;
+
+    @Setup
+    public void setup() {
+        numberParser = NumberParser.builder().scratchBufferSize(scratchBufferSize).build();
+    }
+
+    @Benchmark
+    public boolean parseToResult() {
+        return numberParser.parse(input, result);
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.leeonky.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberScannerBenchmark {
+    private final NumberParser numberParser = new NumberParser();
+    private final NumberScanner numberScanner = new NumberScanner(numberParser);
+    private final NumberResult result = new NumberResult();
+
+    @Param({"1234567", "-9223372036854775808", "3.14159", "123456789012345678901234567890"})
+    public String input;
+
+    private char[] first, second;
+
+    @Setup
+    public void setup() {
+        first = input.substring(0, input.length() / 2).toCharArray();
+        second = input.substring(input.length() / 2).toCharArray();
+    }
+
+    @Benchmark
+    public boolean joinThenParse() {
+        return numberParser.parse(new StringBuilder(first.length + second.length).append(first).append(second)
+                .toString(), result);
+    }
+
+    @Benchmark
+    public boolean feedThenEnd() {
+        return numberScanner.feed(first, 0, first.length).feed(second, 0, second.length).end(result);
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.leeonky.don;
+
+import com.github.leeonky.util.NumberParser;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DonAsyncParser {
+    private final DonPushParser parser;
+    private final Executor executor;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    public DonAsyncParser(DonListener listener, Executor executor) {
+        this(listener, executor, new NumberParser());
+    }
+
+    public DonAsyncParser(DonListener listener, Executor executor, NumberParser numberParser) {
+        parser = new DonPushParser(listener, numberParser);
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    // the chunk is owned by the parser until the completion is done
+    public void feed(ByteBuffer chunk) {
+        submit(() -> parser.feed(chunk));
+    }
+
+    public void end() {
+        submit(() -> {
+            parser.end();
+            completion.complete(null);
+        });
+    }
+
+    public CompletableFuture<Void> read(AsynchronousByteChannel channel, ByteBuffer buffer) {
+        channel.read(buffer, null, new CompletionHandler<Integer, Void>() {
+            @Override
+            public void completed(Integer read, Void attachment) {
+                if (read < 0) {
+                    end();
+                    return;
+                }
+                CompletionHandler<Integer, Void> handler = this;
+                submit(() -> {
+                    buffer.flip();
+                    parser.feed(buffer);
+                    buffer.clear();
+                    channel.read(buffer, null, handler);
+                });
+            }
+
+            @Override
+            public void failed(Throwable e, Void attachment) {
+                completion.completeExceptionally(e);
+            }
+        });
+        return completion;
+    }
+
+    // tasks of one document run one at a time and in order, each as its own executor task so that
+    // documents sharing a small pool take turns chunk by chunk; tasks after completion are dropped in place
+    private void submit(Runnable task) {
+        tasks.add(task);
+        if (pending.getAndIncrement() == 0)
+            executor.execute(this::runNext);
+    }
+
+    private void runNext() {
+        Runnable task = tasks.poll();
+        if (!completion.isDone())
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                completion.completeExceptionally(e);
+            }
+        while (pending.decrementAndGet() != 0) {
+            if (!completion.isDone()) {
+                executor.execute(this::runNext);
+                return;
+            }
+            tasks.poll();
+        }
+    }
+}
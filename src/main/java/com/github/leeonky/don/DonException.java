@@ -0,0 +1,14 @@
+package com.github.leeonky.don;
+
+public class DonException extends RuntimeException {
+    private final long position;
+
+    public DonException(String message, long position) {
+        super(message + " at " + position);
+        this.position = position;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,334 @@
+package com.github.leeonky.don;
+
+import com.github.leeonky.util.NumberParser;
+import com.github.leeonky.util.NumberResult;
+import com.github.leeonky.util.NumberType;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class DonIndex {
+    private static final byte TOP = 0, ARRAY = 1, OBJECT = 2;
+    private static final byte EMPTY = 0, AFTER_VALUE = 1, AFTER_COMMA = 2, AFTER_NAME = 3;
+    private final char[] chars;
+    private final CharBuffer content;
+    private final int offset, end;
+    private final NumberParser numberParser;
+    // two ints per value (and per member name) in document order: its offset and the index of the value after it,
+    // which skips all nested values of a container
+    private int[] tape;
+    private int size;
+
+    public DonIndex(String content) {
+        this(content.toCharArray(), 0, content.length());
+    }
+
+    public DonIndex(char[] chars, int offset, int length) {
+        this(chars, offset, length, new NumberParser());
+    }
+
+    public DonIndex(char[] chars, int offset, int length, NumberParser numberParser) {
+        if (offset < 0 || length < 0 || offset + length > chars.length)
+            throw new IndexOutOfBoundsException(String.format("Range [%d, %d) out of bounds for length %d",
+                    offset, offset + length, chars.length));
+        this.chars = chars;
+        content = CharBuffer.wrap(chars);
+        this.offset = offset;
+        end = offset + length;
+        this.numberParser = numberParser;
+        tape = new int[Math.max(16, length / 4 & ~1)];
+        index();
+    }
+
+    public Value root() {
+        return new Value(0);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // validates brackets, separators and string ends only, literals and escapes are checked when they are accessed
+    private void index() {
+        byte[] contexts = new byte[16], states = new byte[16];
+        int[] containers = new int[16];
+        int depth = 0, pos = offset;
+        while (true) {
+            pos = skipWhitespace(pos);
+            int c = pos < end ? chars[pos] : -1;
+            byte context = contexts[depth], state = states[depth];
+            if (context == TOP) {
+                if (state != EMPTY) {
+                    if (c != -1)
+                        throw unexpected(pos, c);
+                    return;
+                }
+            } else if (state == AFTER_VALUE || state == EMPTY && c == (context == ARRAY ? ']' : '}')) {
+                if (state == AFTER_VALUE && c == ',') {
+                    states[depth] = AFTER_COMMA;
+                    pos++;
+                    continue;
+                }
+                if (c != (context == ARRAY ? ']' : '}'))
+                    throw unexpected(pos, c);
+                tape[containers[depth] * 2 + 1] = size;
+                states[--depth] = AFTER_VALUE;
+                pos++;
+                continue;
+            } else if (context == OBJECT && state != AFTER_NAME) {
+                if (c != '"')
+                    throw unexpected(pos, c);
+                add(pos, size + 1);
+                pos = skipString(pos + 1);
+                states[depth] = AFTER_NAME;
+                continue;
+            } else if (context == OBJECT) {
+                if (c != ':')
+                    throw unexpected(pos, c);
+                pos = skipWhitespace(pos + 1);
+                c = pos < end ? chars[pos] : -1;
+            }
+            if (c == -1)
+                throw unexpected(pos, c);
+            states[depth] = AFTER_VALUE;
+            int value = size;
+            if (c == '{' || c == '[') {
+                add(pos, -1);
+                if (++depth == contexts.length) {
+                    contexts = Arrays.copyOf(contexts, depth * 2);
+                    states = Arrays.copyOf(states, depth * 2);
+                    containers = Arrays.copyOf(containers, depth * 2);
+                }
+                contexts[depth] = c == '{' ? OBJECT : ARRAY;
+                states[depth] = EMPTY;
+                containers[depth] = value;
+                pos++;
+            } else if (c == '"') {
+                add(pos, value + 1);
+                pos = skipString(pos + 1);
+            } else {
+                int literalEnd = literalEnd(pos);
+                if (literalEnd == pos)
+                    throw unexpected(pos, c);
+                add(pos, value + 1);
+                pos = literalEnd;
+            }
+        }
+    }
+
+    private void add(int pos, int next) {
+        if (size * 2 == tape.length)
+            tape = Arrays.copyOf(tape, tape.length * 2);
+        tape[size * 2] = pos;
+        tape[size++ * 2 + 1] = next;
+    }
+
+    private int skipWhitespace(int pos) {
+        while (pos < end && DonSyntax.isWhitespace(chars[pos]))
+            pos++;
+        return pos;
+    }
+
+    private int skipString(int pos) {
+        while (pos < end) {
+            char c = chars[pos++];
+            if (c == '"')
+                return pos;
+            if (c == '\\')
+                pos++;
+        }
+        throw new DonException("Unterminated string", end - offset);
+    }
+
+    private int literalEnd(int pos) {
+        while (pos < end && !DonSyntax.isDelimiter(chars[pos]))
+            pos++;
+        return pos;
+    }
+
+    private DonException unexpected(int pos, int c) {
+        return DonSyntax.unexpected(c, pos - offset);
+    }
+
+    private String string(int pos) {
+        int start = ++pos;
+        while (chars[pos] != '"') {
+            if (chars[pos] == '\\')
+                return escapedString(start, pos);
+            pos++;
+        }
+        return new String(chars, start, pos - start);
+    }
+
+    private String escapedString(int start, int pos) {
+        StringBuilder builder = new StringBuilder(pos - start + 16).append(chars, start, pos - start);
+        while (true) {
+            char c = chars[pos++];
+            if (c == '"')
+                return builder.toString();
+            if (c == '\\') {
+                c = chars[pos++];
+                if (c == 'u') {
+                    int code = 0;
+                    for (int i = 0; i < 4; i++, pos++)
+                        code = code << 4 | DonSyntax.hexDigit(chars[pos], pos - offset);
+                    c = (char) code;
+                } else
+                    c = DonSyntax.escape(c, pos - 1 - offset);
+            }
+            builder.append(c);
+        }
+    }
+
+    private boolean nameEquals(int pos, String name) {
+        int length = name.length();
+        for (int i = 0; i <= length; i++) {
+            char c = chars[pos + 1 + i];
+            if (c == '\\')
+                return string(pos).equals(name);
+            if (c == '"' || i == length)
+                return c == '"' && i == length;
+            if (c != name.charAt(i))
+                return false;
+        }
+        return false;
+    }
+
+    public class Value {
+        private final int node;
+
+        private Value(int node) {
+            this.node = node;
+        }
+
+        public DonToken getToken() {
+            int pos = tape[node * 2];
+            switch (chars[pos]) {
+                case '{':
+                    return DonToken.BEGIN_OBJECT;
+                case '[':
+                    return DonToken.BEGIN_ARRAY;
+                case '"':
+                    return DonToken.STRING;
+            }
+            return DonSyntax.literalToken(content, pos, literalEnd(pos));
+        }
+
+        public long getPosition() {
+            return tape[node * 2] - offset;
+        }
+
+        public int size() {
+            DonToken token = getToken();
+            if (token != DonToken.BEGIN_ARRAY && token != DonToken.BEGIN_OBJECT)
+                throw new IllegalStateException("Value is " + token + ", not an object or array");
+            int count = 0;
+            for (int child = node + 1, last = tape[node * 2 + 1]; child < last; child = tape[child * 2 + 1])
+                count++;
+            return token == DonToken.BEGIN_OBJECT ? count / 2 : count;
+        }
+
+        public Value get(int index) {
+            checkToken(DonToken.BEGIN_ARRAY, "an array");
+            int child = node + 1, last = tape[node * 2 + 1];
+            for (int i = 0; i < index && child < last; i++)
+                child = tape[child * 2 + 1];
+            if (index < 0 || child >= last)
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+            return new Value(child);
+        }
+
+        public Value get(String name) {
+            checkToken(DonToken.BEGIN_OBJECT, "an object");
+            for (int child = node + 1, last = tape[node * 2 + 1]; child < last; child = tape[(child + 1) * 2 + 1])
+                if (nameEquals(tape[child * 2], name))
+                    return new Value(child + 1);
+            return null;
+        }
+
+        public List<String> getNames() {
+            checkToken(DonToken.BEGIN_OBJECT, "an object");
+            List<String> names = new ArrayList<>();
+            for (int child = node + 1, last = tape[node * 2 + 1]; child < last; child = tape[(child + 1) * 2 + 1])
+                names.add(string(tape[child * 2]));
+            return names;
+        }
+
+        public String getString() {
+            checkToken(DonToken.STRING, "a string");
+            return string(tape[node * 2]);
+        }
+
+        public boolean getBoolean() {
+            DonToken token = getToken();
+            if (token != DonToken.TRUE && token != DonToken.FALSE)
+                throw new IllegalStateException("Value is " + token + ", not a boolean");
+            return token == DonToken.TRUE;
+        }
+
+        public boolean isNull() {
+            return getToken() == DonToken.NULL;
+        }
+
+        public Number getNumber() {
+            return number().toNumber();
+        }
+
+        public NumberType getNumberType() {
+            return number().getType();
+        }
+
+        public long getLong() {
+            return number().longValue();
+        }
+
+        public double getDouble() {
+            return number().doubleValue();
+        }
+
+        public Object toObject() {
+            switch (getToken()) {
+                case BEGIN_OBJECT:
+                    Map<String, Object> object = new LinkedHashMap<>();
+                    for (int child = node + 1, last = tape[node * 2 + 1]; child < last;
+                         child = tape[(child + 1) * 2 + 1])
+                        object.put(string(tape[child * 2]), new Value(child + 1).toObject());
+                    return object;
+                case BEGIN_ARRAY:
+                    List<Object> array = new ArrayList<>();
+                    for (int child = node + 1, last = tape[node * 2 + 1]; child < last; child = tape[child * 2 + 1])
+                        array.add(new Value(child).toObject());
+                    return array;
+                case STRING:
+                    return getString();
+                case NUMBER:
+                    return getNumber();
+                case TRUE:
+                    return true;
+                case FALSE:
+                    return false;
+                default:
+                    return null;
+            }
+        }
+
+        private void checkToken(DonToken expected, String description) {
+            DonToken token = getToken();
+            if (token != expected)
+                throw new IllegalStateException("Value is " + token + ", not " + description);
+        }
+
+        // numbers are parsed on every access, nothing is kept in the index
+        private NumberResult number() {
+            checkToken(DonToken.NUMBER, "a number");
+            int pos = tape[node * 2], literalEnd = literalEnd(pos);
+            NumberResult result = new NumberResult();
+            DonSyntax.parseNumber(numberParser, content, pos, literalEnd, result, pos - offset);
+            return result;
+        }
+    }
+}
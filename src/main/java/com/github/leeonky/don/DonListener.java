@@ -0,0 +1,36 @@
+package com.github.leeonky.don;
+
+import com.github.leeonky.util.NumberResult;
+
+public interface DonListener {
+    default void beginObject() {
+    }
+
+    default void endObject() {
+    }
+
+    default void beginArray() {
+    }
+
+    default void endArray() {
+    }
+
+    default void name(String name) {
+    }
+
+    default void string(String value) {
+    }
+
+    // the result is reused for the next number, copy what is needed before returning
+    default void number(NumberResult value) {
+    }
+
+    default void booleanValue(boolean value) {
+    }
+
+    default void nullValue() {
+    }
+
+    default void endDocument() {
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.leeonky.don;
+
+import com.github.leeonky.util.NumberParser;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class DonMappedParser {
+    private static final long DEFAULT_WINDOW_SIZE = 1L << 30;
+    private final NumberParser numberParser;
+    private final long windowSize;
+
+    public DonMappedParser() {
+        this(new NumberParser());
+    }
+
+    public DonMappedParser(NumberParser numberParser) {
+        this(numberParser, DEFAULT_WINDOW_SIZE);
+    }
+
+    DonMappedParser(NumberParser numberParser, long windowSize) {
+        this.numberParser = numberParser;
+        this.windowSize = windowSize;
+    }
+
+    public Object parse(Path file) throws IOException {
+        DonTreeBuilder builder = new DonTreeBuilder();
+        parse(file, builder);
+        return builder.getValue();
+    }
+
+    // maps the file window by window (a single mapping is limited to 2 GB) and feeds each window to a push parser,
+    // which carries tokens across window boundaries
+    public void parse(Path file, DonListener listener) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            DonPushParser parser = new DonPushParser(listener, numberParser);
+            long size = channel.size();
+            for (long position = 0; position < size; position += windowSize)
+                parser.feed(channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(windowSize, size - position)));
+            parser.end();
+        }
+    }
+}
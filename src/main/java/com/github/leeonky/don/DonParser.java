@@ -0,0 +1,63 @@
+package com.github.leeonky.don;
+
+import com.github.leeonky.util.NumberParser;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class DonParser {
+    private final NumberParser numberParser;
+
+    public DonParser() {
+        this(new NumberParser());
+    }
+
+    public DonParser(NumberParser numberParser) {
+        this.numberParser = numberParser;
+    }
+
+    public Object parse(String content) {
+        char[] chars = content.toCharArray();
+        return parse(new DonReader(chars, 0, chars.length, numberParser));
+    }
+
+    public Object parse(Reader reader) {
+        return parse(new DonReader(reader, numberParser));
+    }
+
+    private Object parse(DonReader reader) {
+        Object value = read(reader, reader.next());
+        reader.next();
+        return value;
+    }
+
+    private Object read(DonReader reader, DonToken token) {
+        switch (token) {
+            case BEGIN_OBJECT:
+                Map<String, Object> object = new LinkedHashMap<>();
+                while (reader.next() != DonToken.END_OBJECT) {
+                    String name = reader.getString();
+                    object.put(name, read(reader, reader.next()));
+                }
+                return object;
+            case BEGIN_ARRAY:
+                List<Object> array = new ArrayList<>();
+                while ((token = reader.next()) != DonToken.END_ARRAY)
+                    array.add(read(reader, token));
+                return array;
+            case STRING:
+                return reader.getString();
+            case NUMBER:
+                return reader.getNumber();
+            case TRUE:
+                return true;
+            case FALSE:
+                return false;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.github.leeonky.don;
+
+import com.github.leeonky.util.AsciiCharSequence;
+import com.github.leeonky.util.NumberParser;
+import com.github.leeonky.util.NumberResult;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+public class DonPushParser {
+    private static final byte TOP = 0, ARRAY = 1, OBJECT = 2;
+    private static final byte EMPTY = 0, AFTER_VALUE = 1, AFTER_COMMA = 2, AFTER_NAME = 3, AFTER_COLON = 4;
+    private static final byte STRUCTURE = 0, STRING = 1, NAME = 2, ESCAPE = 3, UNICODE = 4, LITERAL = 5;
+    private final DonListener listener;
+    private final NumberParser numberParser;
+    private final NumberResult numberResult = new NumberResult();
+    private char[] text = new char[64];
+    private CharBuffer chars = CharBuffer.wrap(text);
+    private int textLength;
+    private byte[] contexts = new byte[16], states = new byte[16];
+    private int depth;
+    private byte lexer = STRUCTURE, stringLexer;
+    private int codePoint, pendingBytes, unicodeDigits;
+    private long position, textStart;
+
+    public DonPushParser(DonListener listener) {
+        this(listener, new NumberParser());
+    }
+
+    public DonPushParser(DonListener listener, NumberParser numberParser) {
+        this.listener = listener;
+        this.numberParser = numberParser;
+        contexts[0] = TOP;
+        states[0] = EMPTY;
+    }
+
+    // heap and direct (including mapped) buffers are read in place, the chunk is only referenced during the call
+    public DonPushParser feed(ByteBuffer buffer) {
+        CharSequence bytes = AsciiCharSequence.of(buffer);
+        int first = buffer.position(), end = buffer.limit();
+        for (int i = first; i < end; i++)
+            if ((lexer == STRING || lexer == NAME || lexer == LITERAL) && pendingBytes == 0)
+                i = textRun(bytes, i, end, first);
+            else
+                feed(bytes.charAt(i));
+        buffer.position(end);
+        return this;
+    }
+
+    public DonPushParser feed(byte[] bytes, int offset, int length) {
+        return feed(ByteBuffer.wrap(bytes, offset, length));
+    }
+
+    public void end() {
+        if (pendingBytes != 0)
+            throw new DonException("Invalid UTF-8 sequence", position);
+        if (lexer == LITERAL)
+            literal(chars, 0, textLength);
+        else if (lexer != STRUCTURE)
+            throw new DonException("Unterminated string", position);
+        if (contexts[depth] != TOP || states[depth] == EMPTY)
+            throw new DonException("Unexpected end of document", position);
+        listener.endDocument();
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    // takes plain ASCII string or literal bytes at once, and leaves the byte which ends the run to the state machine;
+    // a literal whose first char is the single ASCII byte before start and which ends in this chunk is parsed in place
+    private int textRun(CharSequence bytes, int start, int end, int first) {
+        int i = start;
+        if (lexer == LITERAL) {
+            char c;
+            while (i < end && (c = bytes.charAt(i)) < 0x80 && !DonSyntax.isDelimiter(c))
+                i++;
+            if (textLength == 1 && text[0] < 0x80 && start > first && i < end
+                    && DonSyntax.isDelimiter(bytes.charAt(i))) {
+                position += i - start;
+                literal(bytes, start - 1, i);
+                feed(bytes.charAt(i));
+                return i;
+            }
+        } else {
+            char c;
+            while (i < end && (c = bytes.charAt(i)) < 0x80 && c != '"' && c != '\\')
+                i++;
+        }
+        ensureText(i - start);
+        for (int j = start; j < i; j++)
+            text[textLength++] = bytes.charAt(j);
+        position += i - start;
+        if (i < end)
+            feed(bytes.charAt(i));
+        return i;
+    }
+
+    private void feed(char b) {
+        if (b < 0x80 && pendingBytes == 0)
+            accept(b);
+        else
+            decode(b);
+    }
+
+    private void decode(int b) {
+        if (pendingBytes == 0) {
+            if (b >= 0xc2 && b < 0xe0) {
+                codePoint = b & 0x1f;
+                pendingBytes = 1;
+            } else if (b >= 0xe0 && b < 0xf0) {
+                codePoint = b & 0x0f;
+                pendingBytes = 2;
+            } else if (b >= 0xf0 && b < 0xf5) {
+                codePoint = b & 0x07;
+                pendingBytes = 3;
+            } else
+                throw new DonException("Invalid UTF-8 sequence", position);
+            return;
+        }
+        if ((b & 0xc0) != 0x80)
+            throw new DonException("Invalid UTF-8 sequence", position);
+        codePoint = codePoint << 6 | b & 0x3f;
+        // rejects overlong forms, surrogates and code points above U+10FFFF as soon as the prefix decides them
+        if (pendingBytes == 2 && (codePoint < 0x20 || codePoint >= 0x360 && codePoint < 0x380)
+                || pendingBytes == 3 && (codePoint < 0x10 || codePoint >= 0x110))
+            throw new DonException("Invalid UTF-8 sequence", position);
+        if (--pendingBytes != 0)
+            return;
+        if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT)
+            accept((char) codePoint);
+        else {
+            accept(Character.highSurrogate(codePoint));
+            accept(Character.lowSurrogate(codePoint));
+        }
+    }
+
+    private void accept(char c) {
+        switch (lexer) {
+            case STRING:
+            case NAME:
+                if (c == '"')
+                    endString();
+                else if (c == '\\') {
+                    stringLexer = lexer;
+                    lexer = ESCAPE;
+                } else
+                    append(c);
+                break;
+            case ESCAPE:
+                escape(c);
+                break;
+            case UNICODE:
+                codePoint = codePoint << 4 | DonSyntax.hexDigit(c, position);
+                if (++unicodeDigits == 4) {
+                    append((char) codePoint);
+                    lexer = stringLexer;
+                }
+                break;
+            case LITERAL:
+                if (!DonSyntax.isDelimiter(c)) {
+                    append(c);
+                    break;
+                }
+                literal(chars, 0, textLength);
+                structure(c);
+                break;
+            default:
+                structure(c);
+        }
+        position++;
+    }
+
+    private void structure(char c) {
+        if (DonSyntax.isWhitespace(c))
+            return;
+        byte context = contexts[depth], state = states[depth];
+        if (context == TOP) {
+            if (state != EMPTY)
+                throw unexpected(c);
+            value(c);
+        } else if (state == AFTER_VALUE) {
+            if (c == ',')
+                states[depth] = AFTER_COMMA;
+            else
+                close(c, context);
+        } else if (state == EMPTY && c == (context == ARRAY ? ']' : '}'))
+            close(c, context);
+        else if (context == ARRAY || state == AFTER_COLON)
+            value(c);
+        else if (state == AFTER_NAME) {
+            if (c != ':')
+                throw unexpected(c);
+            states[depth] = AFTER_COLON;
+        } else {
+            if (c != '"')
+                throw unexpected(c);
+            beginText(NAME);
+        }
+    }
+
+    private void close(char c, byte context) {
+        if (c != (context == ARRAY ? ']' : '}'))
+            throw unexpected(c);
+        states[--depth] = AFTER_VALUE;
+        if (context == ARRAY)
+            listener.endArray();
+        else
+            listener.endObject();
+    }
+
+    private void value(char c) {
+        states[depth] = AFTER_VALUE;
+        switch (c) {
+            case '{':
+                push(OBJECT);
+                listener.beginObject();
+                return;
+            case '[':
+                push(ARRAY);
+                listener.beginArray();
+                return;
+            case '"':
+                beginText(STRING);
+                return;
+        }
+        if (DonSyntax.isDelimiter(c))
+            throw unexpected(c);
+        beginText(LITERAL);
+        append(c);
+    }
+
+    private void push(byte context) {
+        if (++depth == contexts.length) {
+            contexts = Arrays.copyOf(contexts, depth * 2);
+            states = Arrays.copyOf(states, depth * 2);
+        }
+        contexts[depth] = context;
+        states[depth] = EMPTY;
+    }
+
+    private void beginText(byte lexer) {
+        this.lexer = lexer;
+        textLength = 0;
+        textStart = position;
+    }
+
+    private void append(char c) {
+        ensureText(1);
+        text[textLength++] = c;
+    }
+
+    private void ensureText(int length) {
+        if (textLength + length > text.length) {
+            text = Arrays.copyOf(text, Math.max(text.length * 2, textLength + length));
+            chars = CharBuffer.wrap(text);
+        }
+    }
+
+    private void endString() {
+        String value = new String(text, 0, textLength);
+        if (lexer == NAME) {
+            states[depth] = AFTER_NAME;
+            lexer = STRUCTURE;
+            listener.name(value);
+        } else {
+            lexer = STRUCTURE;
+            listener.string(value);
+        }
+    }
+
+    private void escape(char c) {
+        if (c == 'u') {
+            lexer = UNICODE;
+            codePoint = 0;
+            unicodeDigits = 0;
+        } else {
+            lexer = stringLexer;
+            append(DonSyntax.escape(c, position));
+        }
+    }
+
+    private void literal(CharSequence content, int start, int end) {
+        lexer = STRUCTURE;
+        switch (DonSyntax.literalToken(content, start, end)) {
+            case TRUE:
+                listener.booleanValue(true);
+                break;
+            case FALSE:
+                listener.booleanValue(false);
+                break;
+            case NULL:
+                listener.nullValue();
+                break;
+            default:
+                DonSyntax.parseNumber(numberParser, content, start, end, numberResult, textStart);
+                listener.number(numberResult);
+        }
+    }
+
+    private DonException unexpected(char c) {
+        return DonSyntax.unexpected(c, position);
+    }
+}
@@ -0,0 +1,284 @@
+package com.github.leeonky.don;
+
+import com.github.leeonky.util.NumberParser;
+import com.github.leeonky.util.NumberResult;
+import com.github.leeonky.util.NumberType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+public class DonReader implements Closeable {
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final byte TOP = 0, ARRAY = 1, OBJECT = 2;
+    private static final byte EMPTY = 0, AFTER_VALUE = 1, AFTER_COMMA = 2, AFTER_NAME = 3;
+    private final Reader reader;
+    private final NumberParser numberParser;
+    private final NumberResult numberResult = new NumberResult();
+    private char[] buffer;
+    private CharBuffer chars;
+    private int pos, limit;
+    private long bufferOffset;
+    private boolean eof;
+    private byte[] contexts = new byte[16], states = new byte[16];
+    private int depth;
+    private DonToken token;
+    private String string;
+
+    public DonReader(Reader reader) {
+        this(reader, new NumberParser());
+    }
+
+    public DonReader(Reader reader, NumberParser numberParser) {
+        this(reader, numberParser, new char[DEFAULT_BUFFER_SIZE], 0, 0, false);
+    }
+
+    public DonReader(char[] chars, int offset, int length) {
+        this(chars, offset, length, new NumberParser());
+    }
+
+    public DonReader(char[] chars, int offset, int length, NumberParser numberParser) {
+        this(null, numberParser, chars, offset, offset + length, true);
+        if (offset < 0 || length < 0 || offset + length > chars.length)
+            throw new IndexOutOfBoundsException(String.format("Range [%d, %d) out of bounds for length %d",
+                    offset, offset + length, chars.length));
+        bufferOffset = -offset;
+    }
+
+    private DonReader(Reader reader, NumberParser numberParser, char[] buffer, int pos, int limit, boolean eof) {
+        this.reader = reader;
+        this.numberParser = numberParser;
+        this.buffer = buffer;
+        chars = CharBuffer.wrap(buffer);
+        this.pos = pos;
+        this.limit = limit;
+        this.eof = eof;
+        contexts[0] = TOP;
+        states[0] = EMPTY;
+    }
+
+    public DonToken next() {
+        string = null;
+        while (true) {
+            int c = skipWhitespace();
+            byte context = contexts[depth], state = states[depth];
+            if (context == TOP) {
+                if (state == EMPTY)
+                    return value(c);
+                if (c != -1)
+                    throw unexpected(c);
+                return token = DonToken.END_DOCUMENT;
+            }
+            if (state == AFTER_VALUE) {
+                if (c == ',') {
+                    pos++;
+                    states[depth] = AFTER_COMMA;
+                    continue;
+                }
+                return close(c, context);
+            }
+            if (state == EMPTY && c == (context == ARRAY ? ']' : '}'))
+                return close(c, context);
+            if (context == ARRAY)
+                return value(c);
+            if (state == AFTER_NAME) {
+                if (c != ':')
+                    throw unexpected(c);
+                pos++;
+                return value(skipWhitespace());
+            }
+            if (c != '"')
+                throw unexpected(c);
+            pos++;
+            string = readString();
+            states[depth] = AFTER_NAME;
+            return token = DonToken.NAME;
+        }
+    }
+
+    public DonToken getToken() {
+        return token;
+    }
+
+    public String getString() {
+        if (token != DonToken.STRING && token != DonToken.NAME)
+            throw new IllegalStateException("Current token is " + token + ", not a string or name");
+        return string;
+    }
+
+    public Number getNumber() {
+        return checkNumber().toNumber();
+    }
+
+    public NumberType getNumberType() {
+        return checkNumber().getType();
+    }
+
+    public long getLong() {
+        return checkNumber().longValue();
+    }
+
+    public double getDouble() {
+        return checkNumber().doubleValue();
+    }
+
+    public boolean getBoolean() {
+        if (token != DonToken.TRUE && token != DonToken.FALSE)
+            throw new IllegalStateException("Current token is " + token + ", not a boolean");
+        return token == DonToken.TRUE;
+    }
+
+    public long getPosition() {
+        return bufferOffset + pos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (reader != null)
+            reader.close();
+    }
+
+    private NumberResult checkNumber() {
+        if (token != DonToken.NUMBER)
+            throw new IllegalStateException("Current token is " + token + ", not a number");
+        return numberResult;
+    }
+
+    private DonToken close(int c, byte context) {
+        if (c != (context == ARRAY ? ']' : '}'))
+            throw unexpected(c);
+        pos++;
+        states[--depth] = AFTER_VALUE;
+        return token = context == ARRAY ? DonToken.END_ARRAY : DonToken.END_OBJECT;
+    }
+
+    private DonToken value(int c) {
+        if (c == -1)
+            throw unexpected(c);
+        states[depth] = AFTER_VALUE;
+        switch (c) {
+            case '{':
+                pos++;
+                push(OBJECT);
+                return token = DonToken.BEGIN_OBJECT;
+            case '[':
+                pos++;
+                push(ARRAY);
+                return token = DonToken.BEGIN_ARRAY;
+            case '"':
+                pos++;
+                string = readString();
+                return token = DonToken.STRING;
+        }
+        return literal();
+    }
+
+    private void push(byte context) {
+        if (++depth == contexts.length) {
+            contexts = Arrays.copyOf(contexts, depth * 2);
+            states = Arrays.copyOf(states, depth * 2);
+        }
+        contexts[depth] = context;
+        states[depth] = EMPTY;
+    }
+
+    private DonToken literal() {
+        int length = 0;
+        while ((pos + length < limit || fill()) && !DonSyntax.isDelimiter(buffer[pos + length]))
+            length++;
+        if (length == 0)
+            throw unexpected(buffer[pos]);
+        int start = pos;
+        pos += length;
+        token = DonSyntax.literalToken(chars, start, pos);
+        if (token == DonToken.NUMBER)
+            DonSyntax.parseNumber(numberParser, chars, start, pos, numberResult, bufferOffset + start);
+        return token;
+    }
+
+    private String readString() {
+        int length = 0;
+        while (true) {
+            if (pos + length == limit && !fill())
+                throw new DonException("Unterminated string", getPosition() + length);
+            char c = buffer[pos + length];
+            if (c == '"') {
+                String value = new String(buffer, pos, length);
+                pos += length + 1;
+                return value;
+            }
+            if (c == '\\')
+                break;
+            length++;
+        }
+        StringBuilder builder = new StringBuilder(length + 16).append(buffer, pos, length);
+        pos += length;
+        while (true) {
+            char c = nextStringChar();
+            if (c == '"')
+                return builder.toString();
+            if (c == '\\')
+                c = escape(nextStringChar());
+            builder.append(c);
+        }
+    }
+
+    private char nextStringChar() {
+        if (pos == limit && !fill())
+            throw new DonException("Unterminated string", getPosition());
+        return buffer[pos++];
+    }
+
+    private char escape(char c) {
+        if (c != 'u')
+            return DonSyntax.escape(c, getPosition() - 1);
+        int code = 0;
+        for (int i = 0; i < 4; i++)
+            code = code << 4 | DonSyntax.hexDigit(nextStringChar(), getPosition() - 1);
+        return (char) code;
+    }
+
+    private int skipWhitespace() {
+        while (pos < limit || fill()) {
+            char c = buffer[pos];
+            if (!DonSyntax.isWhitespace(c))
+                return c;
+            pos++;
+        }
+        return -1;
+    }
+
+    private DonException unexpected(int c) {
+        return DonSyntax.unexpected(c, getPosition());
+    }
+
+    // keeps [pos, limit) and reads more chars after it, returns false at the end of input
+    private boolean fill() {
+        if (eof)
+            return false;
+        if (pos > 0) {
+            System.arraycopy(buffer, pos, buffer, 0, limit - pos);
+            limit -= pos;
+            bufferOffset += pos;
+            pos = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            chars = CharBuffer.wrap(buffer);
+        }
+        try {
+            int read = reader.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                eof = true;
+                return false;
+            }
+            limit += read;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
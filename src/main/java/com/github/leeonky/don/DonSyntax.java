@@ -0,0 +1,93 @@
+package com.github.leeonky.don;
+
+import com.github.leeonky.util.NumberParser;
+import com.github.leeonky.util.NumberResult;
+
+final class DonSyntax {
+    private DonSyntax() {
+    }
+
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    static boolean isDelimiter(char c) {
+        switch (c) {
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\r':
+            case ',':
+            case ':':
+            case '[':
+            case ']':
+            case '{':
+            case '}':
+            case '"':
+                return true;
+        }
+        return false;
+    }
+
+    // TRUE, FALSE or NULL for the words, NUMBER for anything else (which is checked only when parsed)
+    static DonToken literalToken(CharSequence content, int start, int end) {
+        if (isWord(content, start, end, "true"))
+            return DonToken.TRUE;
+        if (isWord(content, start, end, "false"))
+            return DonToken.FALSE;
+        if (isWord(content, start, end, "null"))
+            return DonToken.NULL;
+        return DonToken.NUMBER;
+    }
+
+    static void parseNumber(NumberParser numberParser, CharSequence content, int start, int end, NumberResult result,
+                            long position) {
+        if (!numberParser.parse(content, start, end, result)) {
+            numberParser.checkStatus(content, start, end, result);
+            throw new DonException("Invalid literal '" + content.subSequence(start, end) + "'", position);
+        }
+    }
+
+    // the char of a one-char escape, 'u' is left to the caller to read the four hex digits
+    static char escape(char c, long position) {
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+        }
+        throw new DonException("Invalid escape '\\" + c + "'", position);
+    }
+
+    static int hexDigit(char c, long position) {
+        int digit = Character.digit(c, 16);
+        if (digit < 0)
+            throw new DonException("Invalid unicode escape", position);
+        return digit;
+    }
+
+    static DonException unexpected(int c, long position) {
+        if (c == -1)
+            return new DonException("Unexpected end of document", position);
+        return new DonException("Unexpected char '" + (char) c + "'", position);
+    }
+
+    private static boolean isWord(CharSequence content, int start, int end, String word) {
+        if (end - start != word.length())
+            return false;
+        for (int i = start; i < end; i++)
+            if (content.charAt(i) != word.charAt(i - start))
+                return false;
+        return true;
+    }
+}
@@ -0,0 +1,5 @@
+package com.github.leeonky.don;
+
+public enum DonToken {
+    BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, TRUE, FALSE, NULL, END_DOCUMENT
+}
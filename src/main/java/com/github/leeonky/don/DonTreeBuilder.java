@@ -0,0 +1,90 @@
+package com.github.leeonky.don;
+
+import com.github.leeonky.util.NumberResult;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class DonTreeBuilder implements DonListener {
+    private final Deque<Object> containers = new ArrayDeque<>();
+    private final Deque<String> names = new ArrayDeque<>();
+    private String name;
+    private Object value;
+
+    public Object getValue() {
+        return value;
+    }
+
+    @Override
+    public void beginObject() {
+        begin(new LinkedHashMap<String, Object>());
+    }
+
+    @Override
+    public void endObject() {
+        end();
+    }
+
+    @Override
+    public void beginArray() {
+        begin(new ArrayList<>());
+    }
+
+    @Override
+    public void endArray() {
+        end();
+    }
+
+    @Override
+    public void name(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void string(String value) {
+        add(value);
+    }
+
+    @Override
+    public void number(NumberResult value) {
+        add(value.toNumber());
+    }
+
+    @Override
+    public void booleanValue(boolean value) {
+        add(value);
+    }
+
+    @Override
+    public void nullValue() {
+        add(null);
+    }
+
+    private void begin(Object container) {
+        if (containers.peek() instanceof Map)
+            names.push(name);
+        containers.push(container);
+    }
+
+    private void end() {
+        Object container = containers.pop();
+        if (containers.peek() instanceof Map)
+            name = names.pop();
+        add(container);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void add(Object value) {
+        Object container = containers.peek();
+        if (container instanceof Map)
+            ((Map<String, Object>) container).put(name, value);
+        else if (container != null)
+            ((List<Object>) container).add(value);
+        else
+            this.value = value;
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.leeonky.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+public abstract class AsciiCharSequence implements CharSequence {
+
+    AsciiCharSequence() {
+    }
+
+    public static AsciiCharSequence of(byte[] bytes) {
+        return new ByteArray(bytes);
+    }
+
+    public static AsciiCharSequence of(ByteBuffer buffer) {
+        return buffer.hasArray() ? new ByteArray(buffer.array(), buffer.arrayOffset(), buffer.limit())
+                : new Buffer(buffer);
+    }
+
+    // the 8 chars from index as bytes of a little-endian long, first char in the lowest byte
+    abstract long getLong(int index);
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++)
+            chars[i - start] = charAt(i);
+        return new String(chars);
+    }
+
+    @Override
+    public String toString() {
+        return subSequence(0, length()).toString();
+    }
+
+    private static class ByteArray extends AsciiCharSequence {
+        private final byte[] bytes;
+        private final int offset, length;
+        private final ByteBuffer littleEndian;
+
+        ByteArray(byte[] bytes) {
+            this(bytes, 0, bytes.length);
+        }
+
+        ByteArray(byte[] bytes, int offset, int length) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+            littleEndian = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes[offset + index] & 0xff);
+        }
+
+        @Override
+        long getLong(int index) {
+            return littleEndian.getLong(offset + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(bytes, offset + start, end - start, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    private static class Buffer extends AsciiCharSequence {
+        private final ByteBuffer buffer, littleEndian;
+
+        Buffer(ByteBuffer buffer) {
+            this.buffer = buffer;
+            littleEndian = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        @Override
+        public int length() {
+            return buffer.limit();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (buffer.get(index) & 0xff);
+        }
+
+        @Override
+        long getLong(int index) {
+            return littleEndian.getLong(index);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.github.leeonky.util;
+
+import java.math.BigInteger;
+
+final class FastDecimalConverter {
+    private static final int SMALLEST_POWER_OF_FIVE = -342;
+    private static final int LARGEST_POWER_OF_FIVE = 308;
+    private static final long[] POWER_OF_FIVE_128 = powerOfFive128();
+    private static final double[] DOUBLE_POWER_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    private static final float[] FLOAT_POWER_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+    private static final Format DOUBLE = new Format(52, -1023, 0x7FF, -342, 308, -4, 23);
+    private static final Format FLOAT = new Format(23, -127, 0xFF, -65, 38, -17, 10);
+    private static final long UNKNOWN = -1;
+
+    private FastDecimalConverter() {
+    }
+
+    private static long[] powerOfFive128() {
+        long[] table = new long[(LARGEST_POWER_OF_FIVE - SMALLEST_POWER_OF_FIVE + 1) * 2];
+        BigInteger two128 = BigInteger.ONE.shiftLeft(128);
+        for (int q = SMALLEST_POWER_OF_FIVE; q <= LARGEST_POWER_OF_FIVE; q++) {
+            BigInteger power5 = BigInteger.valueOf(5).pow(Math.abs(q));
+            BigInteger value;
+            if (q < 0) {
+                int z = power5.bitLength();
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+                value = BigInteger.ONE.shiftLeft(b).divide(power5).add(BigInteger.ONE);
+                if (value.compareTo(two128) >= 0)
+                    value = value.shiftRight(value.bitLength() - 128);
+            } else
+                value = power5.bitLength() <= 128 ? power5.shiftLeft(128 - power5.bitLength())
+                        : power5.shiftRight(power5.bitLength() - 128);
+            int index = (q - SMALLEST_POWER_OF_FIVE) * 2;
+            table[index] = value.shiftRight(64).longValue();
+            table[index + 1] = value.longValue();
+        }
+        return table;
+    }
+
+    // NaN means the value can not be decided without a full precision conversion
+    static double toDouble(boolean negative, long mantissa, long exponent, boolean truncated) {
+        if (mantissa == 0)
+            return negative ? -0.0 : 0.0;
+        if (!truncated && exponent >= -22 && exponent <= 22 && Long.compareUnsigned(mantissa, 1L << 53) <= 0) {
+            double d = mantissa;
+            d = exponent < 0 ? d / DOUBLE_POWER_OF_TEN[(int) -exponent] : d * DOUBLE_POWER_OF_TEN[(int) exponent];
+            return negative ? -d : d;
+        }
+        long bits = computeFloat(DOUBLE, exponent, mantissa, truncated);
+        if (bits == UNKNOWN)
+            return Double.NaN;
+        return Double.longBitsToDouble(negative ? bits | Long.MIN_VALUE : bits);
+    }
+
+    static float toFloat(boolean negative, long mantissa, long exponent, boolean truncated) {
+        if (mantissa == 0)
+            return negative ? -0.0f : 0.0f;
+        if (!truncated && exponent >= -10 && exponent <= 10 && Long.compareUnsigned(mantissa, 1L << 24) <= 0) {
+            float f = mantissa;
+            f = exponent < 0 ? f / FLOAT_POWER_OF_TEN[(int) -exponent] : f * FLOAT_POWER_OF_TEN[(int) exponent];
+            return negative ? -f : f;
+        }
+        long bits = computeFloat(FLOAT, exponent, mantissa, truncated);
+        if (bits == UNKNOWN)
+            return Float.NaN;
+        return Float.intBitsToFloat(negative ? (int) bits | Integer.MIN_VALUE : (int) bits);
+    }
+
+    private static long computeFloat(Format format, long exponent, long mantissa, boolean truncated) {
+        long bits = computeFloat(format, exponent, mantissa);
+        if (truncated && bits != UNKNOWN && computeFloat(format, exponent, mantissa + 1) != bits)
+            return UNKNOWN;
+        return bits;
+    }
+
+    private static long computeFloat(Format format, long q, long w) {
+        if (q < format.smallestPowerOfTen)
+            return 0;
+        if (q > format.largestPowerOfTen)
+            return (long) format.infinitePower << format.mantissaExplicitBits;
+        int lz = Long.numberOfLeadingZeros(w);
+        w <<= lz;
+        int index = (int) (q - SMALLEST_POWER_OF_FIVE) * 2;
+        long high = multiplyHigh(w, POWER_OF_FIVE_128[index]);
+        long low = w * POWER_OF_FIVE_128[index];
+        long precisionMask = -1L >>> (format.mantissaExplicitBits + 3);
+        if ((high & precisionMask) == precisionMask) {
+            long secondHigh = multiplyHigh(w, POWER_OF_FIVE_128[index + 1]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0)
+                high++;
+        }
+        if (low == -1L && (q < -27 || q > 55))
+            return UNKNOWN;
+        int upperBit = (int) (high >>> 63);
+        int shift = upperBit + 64 - format.mantissaExplicitBits - 3;
+        long mantissa = high >>> shift;
+        int power2 = (int) ((((152170 + 65536) * q) >> 16) + 63) + upperBit - lz - format.minimumExponent;
+        if (power2 <= 0)
+            return UNKNOWN;
+        if (Long.compareUnsigned(low, 1) <= 0 && q >= format.minExponentRoundToEven
+                && q <= format.maxExponentRoundToEven && (mantissa & 3) == 1 && (mantissa << shift) == high)
+            mantissa &= ~1L;
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= (2L << format.mantissaExplicitBits)) {
+            mantissa = 1L << format.mantissaExplicitBits;
+            power2++;
+        }
+        mantissa &= ~(1L << format.mantissaExplicitBits);
+        if (power2 >= format.infinitePower)
+            return (long) format.infinitePower << format.mantissaExplicitBits;
+        return mantissa | (long) power2 << format.mantissaExplicitBits;
+    }
+
+    private static long multiplyHigh(long x, long y) {
+        long x0 = x & 0xFFFFFFFFL, x1 = x >>> 32;
+        long y0 = y & 0xFFFFFFFFL, y1 = y >>> 32;
+        long p10 = x1 * y0;
+        long cross = ((x0 * y0) >>> 32) + (p10 & 0xFFFFFFFFL) + x0 * y1;
+        return (p10 >>> 32) + (cross >>> 32) + x1 * y1;
+    }
+
+    private static class Format {
+        final int mantissaExplicitBits, minimumExponent, infinitePower, smallestPowerOfTen, largestPowerOfTen,
+                minExponentRoundToEven, maxExponentRoundToEven;
+
+        Format(int mantissaExplicitBits, int minimumExponent, int infinitePower, int smallestPowerOfTen,
+               int largestPowerOfTen, int minExponentRoundToEven, int maxExponentRoundToEven) {
+            this.mantissaExplicitBits = mantissaExplicitBits;
+            this.minimumExponent = minimumExponent;
+            this.infinitePower = infinitePower;
+            this.smallestPowerOfTen = smallestPowerOfTen;
+            this.largestPowerOfTen = largestPowerOfTen;
+            this.minExponentRoundToEven = minExponentRoundToEven;
+            this.maxExponentRoundToEven = maxExponentRoundToEven;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.leeonky.util;
+
+public class LazyNumber extends Number {
+    private final transient NumberParser numberParser;
+    private final transient CharSequence content;
+    private final int start, end;
+    private final NumberType type;
+    private transient volatile Number value;
+
+    LazyNumber(NumberParser numberParser, CharSequence content, int start, int end, NumberType type) {
+        this.numberParser = numberParser;
+        this.content = content;
+        this.start = start;
+        this.end = end;
+        this.type = type;
+    }
+
+    public NumberType getType() {
+        return type;
+    }
+
+    public boolean isMaterialized() {
+        return value != null;
+    }
+
+    public Number materialize() {
+        Number number = value;
+        if (number == null)
+            value = number = numberParser.parse(content, start, end);
+        return number;
+    }
+
+    @Override
+    public int intValue() {
+        return materialize().intValue();
+    }
+
+    @Override
+    public long longValue() {
+        return materialize().longValue();
+    }
+
+    @Override
+    public float floatValue() {
+        return materialize().floatValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return materialize().doubleValue();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof LazyNumber)
+            obj = ((LazyNumber) obj).materialize();
+        return materialize().equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return materialize().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return materialize().toString();
+    }
+
+    private Object writeReplace() {
+        return materialize();
+    }
+}
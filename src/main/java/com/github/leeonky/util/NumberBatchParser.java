@@ -0,0 +1,107 @@
+package com.github.leeonky.util;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class NumberBatchParser {
+    private static final int DEFAULT_THRESHOLD = 2048;
+    private final NumberParser numberParser;
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public NumberBatchParser(NumberParser numberParser) {
+        this(numberParser, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    public NumberBatchParser(NumberParser numberParser, ForkJoinPool pool, int threshold) {
+        if (threshold <= 0)
+            throw new IllegalArgumentException("threshold should be positive, but was " + threshold);
+        this.numberParser = numberParser;
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    public NumberBatchResult parse(String[] contents) {
+        return parse(contents.length, (index, result) -> numberParser.parse(contents[index], result));
+    }
+
+    public NumberBatchResult parse(List<? extends CharSequence> contents) {
+        CharSequence[] cells = contents.toArray(new CharSequence[0]);
+        return parse(cells.length, (index, result) -> {
+            CharSequence cell = cells[index];
+            if (cell == null)
+                result.reset();
+            else
+                numberParser.parse(cell, 0, cell.length(), result);
+        });
+    }
+
+    public NumberBatchResult parse(CharSequence content, int start, int end, char delimiter) {
+        int[] bounds = cellBounds(content, start, end, delimiter);
+        return parse(bounds.length - 1, (index, result) ->
+                numberParser.parse(content, bounds[index] + 1, bounds[index + 1], result));
+    }
+
+    // cell i is [bounds[i] + 1, bounds[i + 1])
+    static int[] cellBounds(CharSequence content, int start, int end, char delimiter) {
+        if (start < 0 || start > end || end > content.length())
+            throw new IndexOutOfBoundsException(String.format("Range [%d, %d) out of bounds for length %d",
+                    start, end, content.length()));
+        if (start == end)
+            return new int[]{end};
+        int cells = 1;
+        for (int i = start; i < end; i++)
+            if (content.charAt(i) == delimiter)
+                cells++;
+        int[] bounds = new int[cells + 1];
+        bounds[0] = start - 1;
+        for (int i = start, cell = 1; i < end; i++)
+            if (content.charAt(i) == delimiter)
+                bounds[cell++] = i;
+        bounds[cells] = end;
+        return bounds;
+    }
+
+    private NumberBatchResult parse(int size, Cells cells) {
+        NumberBatchResult batchResult = new NumberBatchResult(size);
+        ParseTask task = new ParseTask(cells, batchResult, 0, size);
+        if (size <= threshold)
+            task.compute();
+        else
+            pool.invoke(task);
+        return batchResult;
+    }
+
+    private interface Cells {
+        void parse(int index, NumberResult result);
+    }
+
+    private class ParseTask extends RecursiveAction {
+        private final Cells cells;
+        private final NumberBatchResult batchResult;
+        private final int from, to;
+
+        ParseTask(Cells cells, NumberBatchResult batchResult, int from, int to) {
+            this.cells = cells;
+            this.batchResult = batchResult;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > threshold) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ParseTask(cells, batchResult, from, middle),
+                        new ParseTask(cells, batchResult, middle, to));
+                return;
+            }
+            NumberResult result = new NumberResult();
+            for (int i = from; i < to; i++) {
+                cells.parse(i, result);
+                batchResult.set(i, result);
+            }
+        }
+    }
+}
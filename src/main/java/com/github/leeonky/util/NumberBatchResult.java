@@ -0,0 +1,46 @@
+package com.github.leeonky.util;
+
+import java.util.Arrays;
+
+public class NumberBatchResult {
+    private final Number[] numbers;
+    private final NumberStatus[] statuses;
+
+    NumberBatchResult(int size) {
+        numbers = new Number[size];
+        statuses = new NumberStatus[size];
+    }
+
+    void set(int index, NumberResult result) {
+        statuses[index] = result.getStatus();
+        numbers[index] = result.toNumber();
+    }
+
+    public int size() {
+        return numbers.length;
+    }
+
+    public Number getNumber(int index) {
+        return numbers[index];
+    }
+
+    public NumberStatus getStatus(int index) {
+        return statuses[index];
+    }
+
+    public boolean isNumber(int index) {
+        return statuses[index] == NumberStatus.NUMBER;
+    }
+
+    public int getErrorCount() {
+        int count = 0;
+        for (NumberStatus status : statuses)
+            if (status != NumberStatus.NUMBER)
+                count++;
+        return count;
+    }
+
+    public Number[] toArray() {
+        return Arrays.copyOf(numbers, numbers.length);
+    }
+}
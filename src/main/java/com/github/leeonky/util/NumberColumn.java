@@ -0,0 +1,151 @@
+package com.github.leeonky.util;
+
+import java.util.BitSet;
+
+public class NumberColumn {
+    private final int size;
+    private final BitSet invalid = new BitSet();
+    private NumberType type = NumberType.INTEGER;
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+    private Number[] bigNumbers;
+
+    NumberColumn(int size) {
+        this.size = size;
+        ints = new int[size];
+    }
+
+    void set(int index, NumberResult result) {
+        if (!result.isNumber()) {
+            invalid.set(index);
+            return;
+        }
+        switch (result.getType()) {
+            case BYTE:
+            case SHORT:
+            case INTEGER:
+                setInt(index, result.intValue());
+                break;
+            case LONG:
+                setLong(index, result.longValue());
+                break;
+            case FLOAT:
+            case DOUBLE:
+                setDouble(index, result.doubleValue());
+                break;
+            default:
+                if (bigNumbers == null)
+                    bigNumbers = new Number[size];
+                bigNumbers[index] = result.toNumber();
+        }
+    }
+
+    private void setInt(int index, int value) {
+        if (type == NumberType.INTEGER)
+            ints[index] = value;
+        else if (type == NumberType.LONG)
+            longs[index] = value;
+        else
+            doubles[index] = value;
+    }
+
+    private void setLong(int index, long value) {
+        if (type == NumberType.INTEGER) {
+            longs = new long[size];
+            for (int i = 0; i < size; i++)
+                longs[i] = ints[i];
+            ints = null;
+            type = NumberType.LONG;
+        }
+        if (type == NumberType.LONG)
+            longs[index] = value;
+        else
+            doubles[index] = value;
+    }
+
+    private void setDouble(int index, double value) {
+        if (type != NumberType.DOUBLE) {
+            doubles = new double[size];
+            for (int i = 0; i < size; i++)
+                doubles[i] = type == NumberType.INTEGER ? ints[i] : longs[i];
+            ints = null;
+            longs = null;
+            type = NumberType.DOUBLE;
+        }
+        doubles[index] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public NumberType getType() {
+        return type;
+    }
+
+    public boolean isValid(int index) {
+        return !invalid.get(index);
+    }
+
+    public int getInvalidCount() {
+        return invalid.cardinality();
+    }
+
+    public boolean isBigNumber(int index) {
+        return bigNumbers != null && bigNumbers[index] != null;
+    }
+
+    public int[] getInts() {
+        return ints;
+    }
+
+    public long[] getLongs() {
+        return longs;
+    }
+
+    public double[] getDoubles() {
+        return doubles;
+    }
+
+    public long getLong(int index) {
+        if (isBigNumber(index))
+            return bigNumbers[index].longValue();
+        switch (type) {
+            case INTEGER:
+                return ints[index];
+            case LONG:
+                return longs[index];
+            default:
+                return (long) doubles[index];
+        }
+    }
+
+    public double getDouble(int index) {
+        if (isBigNumber(index))
+            return bigNumbers[index].doubleValue();
+        switch (type) {
+            case INTEGER:
+                return ints[index];
+            case LONG:
+                return longs[index];
+            default:
+                return doubles[index];
+        }
+    }
+
+    public Number getNumber(int index) {
+        if (!isValid(index))
+            return null;
+        if (isBigNumber(index))
+            return bigNumbers[index];
+        switch (type) {
+            case INTEGER:
+                return ints[index];
+            case LONG:
+                return longs[index];
+            default:
+                return doubles[index];
+        }
+    }
+}
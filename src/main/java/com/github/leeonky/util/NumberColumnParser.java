@@ -0,0 +1,78 @@
+package com.github.leeonky.util;
+
+import java.util.List;
+
+public class NumberColumnParser {
+    private final NumberParser numberParser;
+
+    public NumberColumnParser(NumberParser numberParser) {
+        this.numberParser = numberParser;
+    }
+
+    public NumberColumn parse(String[] contents) {
+        NumberColumn column = new NumberColumn(contents.length);
+        NumberResult result = new NumberResult();
+        for (int i = 0; i < contents.length; i++) {
+            numberParser.parse(contents[i], result);
+            column.set(i, result);
+        }
+        return column;
+    }
+
+    public NumberColumn parse(List<? extends CharSequence> contents) {
+        NumberColumn column = new NumberColumn(contents.size());
+        NumberResult result = new NumberResult();
+        int i = 0;
+        for (CharSequence content : contents) {
+            if (content == null)
+                result.reset();
+            else
+                numberParser.parse(content, 0, content.length(), result);
+            column.set(i++, result);
+        }
+        return column;
+    }
+
+    public NumberColumn parse(CharSequence content, int start, int end, char delimiter) {
+        int[] bounds = NumberBatchParser.cellBounds(content, start, end, delimiter);
+        NumberColumn column = new NumberColumn(bounds.length - 1);
+        NumberResult result = new NumberResult();
+        for (int i = 0; i < column.size(); i++) {
+            numberParser.parse(content, bounds[i] + 1, bounds[i + 1], result);
+            column.set(i, result);
+        }
+        return column;
+    }
+
+    public OffHeapNumberColumn parse(String[] contents, OffHeapNumberColumn column) {
+        NumberResult result = new NumberResult();
+        for (String content : contents) {
+            numberParser.parse(content, result);
+            column.append(result);
+        }
+        return column;
+    }
+
+    public OffHeapNumberColumn parse(List<? extends CharSequence> contents, OffHeapNumberColumn column) {
+        NumberResult result = new NumberResult();
+        for (CharSequence content : contents) {
+            if (content == null)
+                result.reset();
+            else
+                numberParser.parse(content, 0, content.length(), result);
+            column.append(result);
+        }
+        return column;
+    }
+
+    public OffHeapNumberColumn parse(CharSequence content, int start, int end, char delimiter,
+                                     OffHeapNumberColumn column) {
+        int[] bounds = NumberBatchParser.cellBounds(content, start, end, delimiter);
+        NumberResult result = new NumberResult();
+        for (int i = 0; i < bounds.length - 1; i++) {
+            numberParser.parse(content, bounds[i] + 1, bounds[i + 1], result);
+            column.append(result);
+        }
+        return column;
+    }
+}
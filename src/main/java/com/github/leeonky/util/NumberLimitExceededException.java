@@ -0,0 +1,27 @@
+package com.github.leeonky.util;
+
+public class NumberLimitExceededException extends RuntimeException {
+    private final String content, limit;
+    private final int value;
+    private String message;
+
+    public NumberLimitExceededException(String content, String limit, int value) {
+        this.content = content;
+        this.limit = limit;
+        this.value = value;
+    }
+
+    NumberLimitExceededException(String content, String limit, int value, boolean writableStackTrace) {
+        super(null, null, false, writableStackTrace);
+        this.content = content;
+        this.limit = limit;
+        this.value = value;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null)
+            message = String.format("Number [%s] exceeds the max %s %d", content, limit, value);
+        return message;
+    }
+}
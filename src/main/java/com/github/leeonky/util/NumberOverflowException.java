@@ -1,7 +1,33 @@
 package com.github.leeonky.util;
 
 public class NumberOverflowException extends RuntimeException {
+    private static final String POSTFIX_TYPE_FORMAT = "Cannon save [%s] with the given postfix type";
+    private final String content, format;
+    private String message;
+
     public NumberOverflowException(String content) {
-        super(String.format("Cannon save [%s] with the given postfix type", content));
+        this.content = content;
+        format = POSTFIX_TYPE_FORMAT;
+    }
+
+    NumberOverflowException(String content, boolean writableStackTrace) {
+        this(content, POSTFIX_TYPE_FORMAT, writableStackTrace);
+    }
+
+    NumberOverflowException(String content, String format, boolean writableStackTrace) {
+        super(null, null, false, writableStackTrace);
+        this.content = content;
+        this.format = format;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null)
+            message = String.format(format, content);
+        return message;
     }
 }
@@ -2,138 +2,276 @@ package com.github.leeonky.util;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 public class NumberParser {
-    private static final PrimitiveIntegerPostfix BYTE_POSTFIX = new PrimitiveIntegerPostfix(1) {
-        @Override
-        public Number convertFrom(int number, String content) {
-            if (number > Byte.MAX_VALUE || number < Byte.MIN_VALUE)
-                throw new NumberOverflowException(content);
-            return (byte) number;
-        }
-    }, SHORT_POSTFIX = new PrimitiveIntegerPostfix(1) {
-        @Override
-        public Number convertFrom(int number, String content) {
-            if (number > Short.MAX_VALUE || number < Short.MIN_VALUE)
-                throw new NumberOverflowException(content);
-            return (short) number;
-        }
-    }, LONG_POSTFIX = new PrimitiveIntegerPostfix(1) {
-        @Override
-        public Number convertFrom(int number, String content) {
-            return (long) number;
-        }
+    private static final long MAX_MANTISSA_BEFORE_MUL = 1844674407370955160L;
+    private static final long MAX_POWER_BEFORE_MUL = 100000000000L;
+    private static final int DIGITS_PER_GROUP = 9;
+    private static final int GROUP_BASE = 1000000000;
+    private static final int SCHOOLBOOK_GROUPS = 40;
+    private static final double LOG2_10 = Math.log(10) / Math.log(2);
+    private static volatile BigInteger[] groupBasePowers = {BigInteger.valueOf(GROUP_BASE)};
+    private static final int MIN_SCRATCH_BUFFER = 64;
+    private static final ThreadLocal<char[]> SCRATCH_BUFFER = new ThreadLocal<>();
+    private static final Map<Class<?>, NumberPostfix> TARGETS = new HashMap<>();
+    private static final PostfixTable POSTFIXES = new PostfixTable()
+            .with(builtIn("y", NumberType.BYTE)).with(builtIn("Y", NumberType.BYTE))
+            .with(builtIn("s", NumberType.SHORT)).with(builtIn("S", NumberType.SHORT))
+            .with(builtIn("l", NumberType.LONG)).with(builtIn("L", NumberType.LONG))
+            .with(builtIn("bi", NumberType.BIG_INTEGER)).with(builtIn("BI", NumberType.BIG_INTEGER))
+            .with(builtIn("f", NumberType.FLOAT)).with(builtIn("F", NumberType.FLOAT))
+            .with(builtIn("d", NumberType.DOUBLE)).with(builtIn("D", NumberType.DOUBLE))
+            .with(builtIn("bd", NumberType.BIG_DECIMAL)).with(builtIn("BD", NumberType.BIG_DECIMAL));
 
-        @Override
-        public Number convertFrom(long number, String content) {
-            return number;
-        }
-    };
-    private static final StringNumberPostfix BIG_INTEGER_POSTFIX = new StringNumberPostfix(2) {
-        @Override
-        public Number convertFromBigInteger(String numberString, int radix, String content) {
-            return new BigInteger(numberString, radix);
-        }
-    }, FLOAT_POSTFIX = new StringNumberPostfix(1) {
-        @Override
-        public Number convertFromDecimal(String numberString, String content) {
-            return verifyInfinite(Float.parseFloat(numberString), content);
-        }
+    static {
+        target(NumberType.BYTE, Byte.class, byte.class);
+        target(NumberType.SHORT, Short.class, short.class);
+        target(NumberType.INTEGER, Integer.class, int.class);
+        target(NumberType.LONG, Long.class, long.class);
+        target(NumberType.BIG_INTEGER, BigInteger.class);
+        target(NumberType.FLOAT, Float.class, float.class);
+        target(NumberType.DOUBLE, Double.class, double.class);
+        target(NumberType.BIG_DECIMAL, BigDecimal.class);
+    }
 
-        private Number verifyInfinite(float f, String content) {
-            if (Float.isInfinite(f))
-                throw new NumberOverflowException(content);
-            return f;
-        }
+    private final int maxDigits, maxExponent, maxBitLength, scratchBufferSize;
+    private final PostfixTable postfixes;
+    private final boolean underscore, hexadecimal, octal, binary, radixPrefix, postfixEnabled, bigDecimalFallback;
 
-        @Override
-        public Number convertFromBigInteger(String numberString, int radix, String content) {
-            return verifyInfinite(Float.parseFloat(numberString), content);
-        }
-    }, DOUBLE_POSTFIX = new StringNumberPostfix(1) {
-        @Override
-        public Number convertFromDecimal(String numberString, String content) {
-            return verifyInfinite(Double.parseDouble(numberString), content);
-        }
+    public NumberParser() {
+        this(new Builder());
+    }
 
-        @Override
-        public Number convertFromBigInteger(String numberString, int radix, String content) {
-            return verifyInfinite(Double.parseDouble(numberString), content);
-        }
+    private NumberParser(Builder builder) {
+        maxDigits = positive("maxDigits", builder.maxDigits);
+        maxExponent = positive("maxExponent", builder.maxExponent);
+        maxBitLength = positive("maxBitLength", builder.maxBitLength);
+        if (builder.scratchBufferSize < 0)
+            throw new IllegalArgumentException("scratchBufferSize should not be negative, but was "
+                    + builder.scratchBufferSize);
+        scratchBufferSize = builder.scratchBufferSize;
+        postfixes = builder.postfixes;
+        underscore = builder.underscore;
+        hexadecimal = builder.hexadecimal;
+        octal = builder.octal;
+        binary = builder.binary;
+        radixPrefix = hexadecimal || octal || binary;
+        postfixEnabled = builder.postfix;
+        bigDecimalFallback = builder.bigDecimalFallback;
+    }
 
-        private Number verifyInfinite(double d, String content) {
-            if (Double.isInfinite(d))
-                throw new NumberOverflowException(content);
-            return d;
-        }
-    }, BIG_DECIMAL_POSTFIX = new StringNumberPostfix(2) {
-        @Override
-        public Number convertFromDecimal(String numberString, String content) {
-            return new BigDecimal(numberString);
-        }
+    public static Builder builder() {
+        return new Builder();
+    }
 
-        @Override
-        public Number convertFromBigInteger(String numberString, int radix, String content) {
-            return new BigDecimal(numberString);
-        }
-    };
+    private static NumberPostfix builtIn(String postfix, NumberType type) {
+        return new NumberPostfix(postfix, type) {
+        };
+    }
 
-    static class StringNumberPostfix {
-        public final int length;
+    private static int positive(String name, int value) {
+        if (value <= 0)
+            throw new IllegalArgumentException(name + " should be positive, but was " + value);
+        return value;
+    }
 
-        public StringNumberPostfix(int length) {
-            this.length = length;
-        }
+    public NumberParser withMaxDigits(int maxDigits) {
+        return new Builder(this).maxDigits(maxDigits).build();
+    }
 
-        public Number convertFromBigInteger(String numberString, int radix, String content) {
-            throw new NumberOverflowException(content);
-        }
+    public NumberParser withMaxExponent(int maxExponent) {
+        return new Builder(this).maxExponent(maxExponent).build();
+    }
 
-        public Number convertFromDecimal(String numberString, String content) {
-            throw new NumberOverflowException(content);
-        }
+    public NumberParser withMaxBitLength(int maxBitLength) {
+        return new Builder(this).maxBitLength(maxBitLength).build();
     }
 
-    static abstract class PrimitiveIntegerPostfix extends StringNumberPostfix {
-        protected PrimitiveIntegerPostfix(int length) {
-            super(length);
-        }
+    public NumberParser withPostfix(NumberPostfix postfix) {
+        return new Builder(this).postfix(postfix).build();
+    }
 
-        public abstract Number convertFrom(int number, String content);
+    boolean withinMaxDigits(int digits) {
+        return digits <= maxDigits;
+    }
 
-        public Number convertFrom(long number, String content) {
-            throw new NumberOverflowException(content);
-        }
+    private static void target(NumberType type, Class<?>... classes) {
+        NumberPostfix target = builtIn("", type);
+        for (Class<?> c : classes)
+            TARGETS.put(c, target);
+    }
+
+    private static NumberPostfix target(Class<?> type) {
+        NumberPostfix target = TARGETS.get(type);
+        if (target == null)
+            throw new IllegalArgumentException("Unsupported number type: " + type.getName());
+        return target;
     }
 
     public Number parse(String content) {
         if (content == null)
             return null;
-        int length = content.length();
-        if (length == 0)
+        return parse(content, 0, content.length());
+    }
+
+    public Number parse(CharSequence content, int start, int end) {
+        NumberResult result = new NumberResult();
+        parse(content, start, end, result);
+        checkStatus(content, start, end, result);
+        return result.toNumber();
+    }
+
+    public LazyNumber parseLazy(String content) {
+        if (content == null)
+            return null;
+        return parseLazy(content, 0, content.length());
+    }
+
+    public LazyNumber parseLazy(CharSequence content, int start, int end) {
+        NumberResult result = new NumberResult();
+        if (classify(content, start, end, result))
+            return new LazyNumber(this, content, start, end, result.getType());
+        checkStatus(content, start, end, result);
+        return null;
+    }
+
+    // throws the exception parse would throw for a failed result, returns for a number or NOT_NUMBER
+    public void checkStatus(CharSequence content, int start, int end, NumberResult result) {
+        switch (result.getStatus()) {
+            case OVERFLOW:
+                throw new NumberOverflowException(content.subSequence(start, end).toString(), false);
+            case OUT_OF_DOUBLE_RANGE:
+                throw new NumberOverflowException(content.subSequence(start, end).toString(),
+                        "Number [%s] is out of double range and the BigDecimal fallback is disabled", false);
+            case TOO_MANY_DIGITS:
+                throw limitExceeded(content, start, end, "digits", maxDigits);
+            case EXPONENT_TOO_LARGE:
+                throw limitExceeded(content, start, end, "exponent", maxExponent);
+            case BIT_LENGTH_TOO_LARGE:
+                throw limitExceeded(content, start, end, "bit length", maxBitLength);
+        }
+    }
+
+    public Number parse(char[] chars, int offset, int length) {
+        return parse(CharBuffer.wrap(chars), offset, offset + length);
+    }
+
+    public Number parse(byte[] bytes, int offset, int length) {
+        return parse(AsciiCharSequence.of(bytes), offset, offset + length);
+    }
+
+    public Number parse(ByteBuffer buffer) {
+        return parse(AsciiCharSequence.of(buffer), buffer.position(), buffer.limit());
+    }
+
+    public <T extends Number> T parseAs(String content, Class<T> type) {
+        if (content == null)
+            return null;
+        return parseAs(content, 0, content.length(), type);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Number> T parseAs(CharSequence content, int start, int end, Class<T> type) {
+        NumberResult result = new NumberResult();
+        parse(content, start, end, target(type), result);
+        checkStatus(content, start, end, result);
+        return (T) result.toNumber();
+    }
+
+    public boolean parseAs(CharSequence content, int start, int end, Class<? extends Number> type,
+                           NumberResult result) {
+        return parse(content, start, end, target(type), result);
+    }
+
+    public boolean isNumber(String content) {
+        return classify(content) != null;
+    }
+
+    public boolean isNumber(CharSequence content, int start, int end) {
+        return classify(content, start, end) != null;
+    }
+
+    public NumberType classify(String content) {
+        if (content == null)
             return null;
+        return classify(content, 0, content.length());
+    }
+
+    public NumberType classify(CharSequence content, int start, int end) {
+        NumberResult result = new NumberResult();
+        classify(content, start, end, result);
+        return result.getType();
+    }
+
+    public boolean classify(CharSequence content, int start, int end, NumberResult result) {
+        result.typeOnly = true;
+        try {
+            return parse(content, start, end, result);
+        } finally {
+            result.typeOnly = false;
+        }
+    }
+
+    public boolean parse(String content, NumberResult result) {
+        if (content == null) {
+            result.reset();
+            return false;
+        }
+        return parse(content, 0, content.length(), result);
+    }
+
+    public boolean parse(char[] chars, int offset, int length, NumberResult result) {
+        return parse(CharBuffer.wrap(chars), offset, offset + length, result);
+    }
+
+    public boolean parse(byte[] bytes, int offset, int length, NumberResult result) {
+        return parse(AsciiCharSequence.of(bytes), offset, offset + length, result);
+    }
+
+    public boolean parse(ByteBuffer buffer, NumberResult result) {
+        return parse(AsciiCharSequence.of(buffer), buffer.position(), buffer.limit(), result);
+    }
+
+    public boolean parse(CharSequence content, int start, int end, NumberResult result) {
+        return parse(content, start, end, null, result);
+    }
+
+    private boolean parse(CharSequence content, int start, int end, NumberPostfix target, NumberResult result) {
+        if (start < 0 || start > end || end > content.length())
+            throw new IndexOutOfBoundsException(String.format("Range [%d, %d) out of bounds for length %d",
+                    start, end, content.length()));
+        result.reset();
+        if (start == end)
+            return false;
         int sign = 1;
-        int index = 0;
+        int index = start;
         char c = content.charAt(index);
         if (c == '+') {
-            if (++index == length)
-                return null;
+            if (++index == end)
+                return false;
         } else if (c == '-') {
-            if (++index == length)
-                return null;
+            if (++index == end)
+                return false;
             sign = -1;
         }
         int radix = 10;
-        if (index + 1 < length && content.charAt(index) == '0') {
+        if (radixPrefix && index + 1 < end && content.charAt(index) == '0') {
             char radixChar = content.charAt(index + 1);
             if (isDigit(radixChar) || radixChar == '_') {
-                index++;
-                radix = 8;
-            } else if (index + 2 < length) {
-                if (radixChar == 'x' || radixChar == 'X') {
+                if (octal) {
+                    index++;
+                    radix = 8;
+                }
+            } else if (index + 2 < end) {
+                if (hexadecimal && (radixChar == 'x' || radixChar == 'X')) {
                     index += 2;
                     radix = 16;
-                } else if (radixChar == 'b' || radixChar == 'B') {
+                } else if (binary && (radixChar == 'b' || radixChar == 'B')) {
                     char nextChar = content.charAt(index + 2);
                     if (nextChar == '0' || nextChar == '1') {
                         index += 2;
@@ -142,132 +280,328 @@ public class NumberParser {
                 }
             }
         }
-        c = content.charAt(length - 1);
-        StringNumberPostfix postfix = fetchDecimalOrBigIntegerPostfix(content, radix, c);
-        if (postfix != null) {
-            if (index == (length -= postfix.length))
-                return null;
-            return continueParseBigInteger(radix, index, content, length, postfix, newStringBuilder(length, sign));
+        NumberPostfix postfix = postfixEnabled ? postfixes.find(content, start, end, radix) : null;
+        if (target != null) {
+            if (postfix == null)
+                postfix = target;
+            else if (postfix.type != target.type)
+                return false;
         }
-        return parseFromInteger(content, length, sign, index, radix, fetchOtherPostfix(c));
-    }
-
-    private PrimitiveIntegerPostfix fetchOtherPostfix(char c) {
-        switch (c) {
-            case 'y':
-            case 'Y':
-                return BYTE_POSTFIX;
-            case 's':
-            case 'S':
-                return SHORT_POSTFIX;
-            case 'l':
-            case 'L':
-                return LONG_POSTFIX;
-        }
-        return null;
+        if (postfix instanceof StringNumberPostfix)
+            return parseWithStringPostfix(content, start, end, sign, index, radix, (StringNumberPostfix) postfix,
+                    result);
+        return parseFromInteger(content, start, end, sign, index, radix, postfix, result);
     }
 
-    private StringNumberPostfix fetchDecimalOrBigIntegerPostfix(String content, int radix, char c) {
-        if (content.endsWith("bi") || content.endsWith("BI"))
-            return BIG_INTEGER_POSTFIX;
-        if (radix == 10) {
-            if (content.endsWith("bd") || content.endsWith("BD"))
-                return BIG_DECIMAL_POSTFIX;
-            switch (c) {
-                case 'f':
-                case 'F':
-                    return FLOAT_POSTFIX;
-                case 'd':
-                case 'D':
-                    return DOUBLE_POSTFIX;
-            }
+    private boolean parseWithStringPostfix(CharSequence content, int start, int end, int sign, int index, int radix,
+                                           StringNumberPostfix postfix, NumberResult result) {
+        if (index == (end -= postfix.length))
+            return false;
+        boolean typeOnly = result.typeOnly;
+        result.typeOnly = true;
+        try {
+            if (!parseFromInteger(content, start, end, sign, index, radix, null, result))
+                return false;
+        } finally {
+            result.typeOnly = typeOnly;
         }
-        return null;
+        return convert(postfix.convert(numberString(content, start, end)), result);
     }
 
-    private StringBuilder newStringBuilder(int length, int sign) {
-        StringBuilder stringBuilder = new StringBuilder(length);
-        if (sign == -1)
-            stringBuilder.append('-');
-        return stringBuilder;
+    private boolean convert(Number number, NumberResult result) {
+        if (number == null)
+            return result.fail(NumberStatus.OVERFLOW);
+        result.set(number);
+        return true;
     }
 
-    private Number parseFromInteger(String content, int length, int sign, int index, int radix, PrimitiveIntegerPostfix postfix) {
+    private boolean parseFromInteger(CharSequence content, int start, int end, int sign, int index, int radix,
+                                     NumberPostfix postfix, NumberResult result) {
         if (postfix != null) {
-            if (index == (length -= postfix.length))
-                return null;
+            if (index == (end -= postfix.length))
+                return false;
         }
+        if (end - index > maxDigits && countDigits(content, index, end, radix, maxDigits) > maxDigits)
+            return result.fail(NumberStatus.TOO_MANY_DIGITS);
+        if (radix != 10)
+            return parseBits(content, start, end, sign, index, Integer.numberOfTrailingZeros(radix), postfix, result);
+        if (end - index >= 8)
+            return parseEightDigits(content, start, end, sign, index, postfix, result);
+        if (postfix != null && postfix.type != NumberType.BYTE && postfix.type != NumberType.SHORT
+                && postfix.type != NumberType.INTEGER)
+            return continueParseLong(sign, 0, start, index, content, end, postfix, result);
         int number = 0;
         int limit = sign == 1 ? -Integer.MAX_VALUE : Integer.MIN_VALUE;
         int limitBeforeMul = limit / radix;
-        while (index < length) {
+        while (index < end) {
             char c = content.charAt(index++);
-            if (c == '_' && index != length)
+            if (c == '_' && underscore && index != end)
                 continue;
             int digit = getDigit(radix, c);
             if (digit < 0) {
-                if (isFloatDot(radix, c, index, length, content))
-                    return parseDoubleWithDot(toStringBuilder(radix, sign, number, length), radix, content, index, length, postfix);
-                if (isPowerChar(radix, c, index, length, content))
-                    return parseDoubleWithPower(content, index, length, toStringBuilder(radix, sign, number, length), postfix);
-                return null;
+                if (isFloatDot(radix, c, start, index, end, content))
+                    return parseDoubleWithDot(content, start, index, end, sign, -(long) number, 0, false, postfix, result);
+                if (isPowerChar(radix, c, start, index, end, content))
+                    return parseDoubleWithPower(content, start, index, end, sign, -(long) number, 0, false, postfix, result);
+                return false;
             }
             if (isOverflow(digit, number, limit, limitBeforeMul, radix))
-                return continueParseLong(sign, radix, number, digit, index, content, length, postfix);
+                return continueParseLong(sign, (long) number * radix - digit, start, index, content, end, postfix,
+                        result);
             number = number * radix - digit;
         }
-        if (sign == 1)
-            number = -number;
-        return postfix != null ? postfix.convertFrom(number, content) : number;
+        return toInteger(sign == 1 ? -number : number, sign, postfix, result);
+    }
+
+    private boolean parseBits(CharSequence content, int start, int end, int sign, int index, int shift,
+                              NumberPostfix postfix, NumberResult result) {
+        int radix = 1 << shift;
+        int digitStart = index;
+        long number = 0;
+        boolean outOfLong = false;
+        while (index < end) {
+            char c = content.charAt(index++);
+            if (c == '_' && underscore && index != end)
+                continue;
+            int digit = getDigit(radix, c);
+            if (digit < 0)
+                return false;
+            if (number >>> (64 - shift) != 0)
+                outOfLong = true;
+            number = number << shift | digit;
+        }
+        if (outOfLong || number < 0 && (sign == 1 || number != Long.MIN_VALUE)) {
+            if (result.typeOnly) {
+                if (bitLength(content, digitStart, end, shift) > maxBitLength)
+                    return result.fail(NumberStatus.BIT_LENGTH_TOO_LARGE);
+                return classifyBigInteger(postfix, result);
+            }
+            return toBigInteger(bitsToBigInteger(content, digitStart, end, sign, shift), postfix, result);
+        }
+        return toInteger(sign * number, sign, postfix, result);
+    }
+
+    private int bitLength(CharSequence content, int index, int end, int shift) {
+        int bits = 0;
+        for (; index < end; index++) {
+            char c = content.charAt(index);
+            if (c == '_')
+                continue;
+            if (bits != 0)
+                bits += shift;
+            else
+                bits = 32 - Integer.numberOfLeadingZeros(getDigit(1 << shift, c));
+        }
+        return bits;
+    }
+
+    private BigInteger bitsToBigInteger(CharSequence content, int index, int end, int sign, int shift) {
+        int digits = 0;
+        for (int i = index; i < end; i++)
+            if (content.charAt(i) != '_')
+                digits++;
+        byte[] magnitude = new byte[(digits * shift + 7) >> 3];
+        int bit = 0;
+        for (int i = end - 1; i >= index; i--) {
+            char c = content.charAt(i);
+            if (c == '_')
+                continue;
+            int digit = getDigit(1 << shift, c);
+            int at = magnitude.length - 1 - (bit >> 3);
+            magnitude[at] |= digit << (bit & 7);
+            if ((bit & 7) + shift > 8)
+                magnitude[at - 1] |= digit >> (8 - (bit & 7));
+            bit += shift;
+        }
+        return new BigInteger(sign, magnitude);
+    }
+
+    private boolean parseEightDigits(CharSequence content, int start, int end, int sign, int index,
+                                     NumberPostfix postfix, NumberResult result) {
+        // up to 18 digits always fit in a long, so no overflow check before safeEnd
+        int safeEnd = Math.min(end, index + 18);
+        long number = 0;
+        for (; safeEnd - index >= 8; index += 8) {
+            long digits = eightDigits(content, index);
+            if (digits < 0)
+                break;
+            number = number * 100000000 - digits;
+        }
+        for (; index < safeEnd; index++) {
+            int digit = content.charAt(index) - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            number = number * 10 - digit;
+        }
+        if (index == end)
+            return toInteger(sign == 1 ? -number : number, sign, postfix, result);
+        return continueParseLong(sign, number, start, index, content, end, postfix, result);
+    }
+
+    private long eightDigits(CharSequence content, int index) {
+        long word;
+        if (content instanceof AsciiCharSequence)
+            word = ((AsciiCharSequence) content).getLong(index);
+        else if (content instanceof String)
+            word = eightChars((String) content, index);
+        else if (content instanceof CharBuffer && ((CharBuffer) content).hasArray())
+            word = eightChars((CharBuffer) content, index);
+        else
+            word = eightChars(content, index);
+        if (((word & 0xf0f0f0f0f0f0f0f0L)
+                | (((word + 0x0606060606060606L) & 0xf0f0f0f0f0f0f0f0L) >>> 4)) != 0x3333333333333333L)
+            return -1;
+        word -= 0x3030303030303030L;
+        word = word * 10 + (word >>> 8);
+        return (((word & 0x000000ff000000ffL) * (100 + (1000000L << 32)))
+                + (((word >>> 16) & 0x000000ff000000ffL) * (1 + (10000L << 32)))) >>> 32;
+    }
+
+    // a char above 0xff sets a high bit that fails the digit mask check
+    private long eightChars(String content, int index) {
+        long word = 0;
+        for (int i = 0; i < 8; i++) {
+            char c = content.charAt(index + i);
+            word |= (c > 0xff ? 0x80L : c) << (i << 3);
+        }
+        return word;
+    }
+
+    private long eightChars(CharBuffer content, int index) {
+        char[] chars = content.array();
+        int offset = content.arrayOffset() + content.position() + index;
+        long word = 0;
+        for (int i = 0; i < 8; i++) {
+            char c = chars[offset + i];
+            word |= (c > 0xff ? 0x80L : c) << (i << 3);
+        }
+        return word;
+    }
+
+    private long eightChars(CharSequence content, int index) {
+        long word = 0;
+        for (int i = 0; i < 8; i++) {
+            char c = content.charAt(index + i);
+            word |= (c > 0xff ? 0x80L : c) << (i << 3);
+        }
+        return word;
+    }
+
+    private boolean toInteger(long number, int sign, NumberPostfix postfix, NumberResult result) {
+        if (postfix == null) {
+            if (number == (int) number)
+                result.setInt((int) number);
+            else
+                result.setLong(number);
+            return true;
+        }
+        if (postfix.type == null)
+            return convert(((PrimitiveIntegerPostfix) postfix).convert(number), result);
+        switch (postfix.type) {
+            case BYTE:
+                if (number != (byte) number)
+                    return result.fail(NumberStatus.OVERFLOW);
+                result.setByte((byte) number);
+                return true;
+            case INTEGER:
+                if (number != (int) number)
+                    return result.fail(NumberStatus.OVERFLOW);
+                result.setInt((int) number);
+                return true;
+            case SHORT:
+                if (number != (short) number)
+                    return result.fail(NumberStatus.OVERFLOW);
+                result.setShort((short) number);
+                return true;
+            case LONG:
+                result.setLong(number);
+                return true;
+            case BIG_INTEGER:
+                result.set(BigInteger.valueOf(number));
+                return true;
+            case FLOAT:
+                result.setFloat(number == 0 && sign == -1 ? -0.0f : number);
+                return true;
+            case DOUBLE:
+                result.setDouble(number == 0 && sign == -1 ? -0.0 : number);
+                return true;
+            default:
+                result.set(BigDecimal.valueOf(number));
+                return true;
+        }
+    }
+
+    private NumberLimitExceededException limitExceeded(CharSequence content, int start, int end, String limit,
+                                                       int value) {
+        return new NumberLimitExceededException(content.subSequence(start, Math.min(end, start + 32)).toString()
+                + (end - start > 32 ? "..." : ""), limit, value, false);
+    }
+
+    // significant digits only, zeros before the first non-zero digit (on either side of the dot) are not counted
+    private int countDigits(CharSequence content, int index, int end, int radix, int max) {
+        int digits = 0;
+        for (; index < end && digits <= max; index++) {
+            char c = content.charAt(index);
+            if (radix == 10 && (c == 'e' || c == 'E'))
+                break;
+            int digit = getDigit(radix, c);
+            if (digit > 0 || digit == 0 && digits > 0)
+                digits++;
+        }
+        return digits;
     }
 
-    private Number parseDoubleWithPower(String content, int index, int length, StringBuilder stringBuilder, StringNumberPostfix postfix) {
-        stringBuilder.append('E');
+    private boolean parseDoubleWithPower(CharSequence content, int start, int index, int end, int sign, long mantissa,
+                                         long exponent, boolean truncated, NumberPostfix postfix, NumberResult result) {
         int eSign = 1;
         if (content.charAt(index) == '+') {
-            if (++index == length)
-                return null;
+            if (++index == end)
+                return false;
         }
         if (content.charAt(index) == '-') {
-            if (++index == length)
-                return null;
+            if (++index == end)
+                return false;
             eSign = -1;
         }
-        if (eSign == -1)
-            stringBuilder.append('-');
-        while (index < length) {
+        long power = 0;
+        while (index < end) {
             char c = content.charAt(index++);
-            if (c == '_' && index != length)
+            if (c == '_' && underscore && index != end)
                 continue;
             if (notDigit(c))
-                return null;
-            stringBuilder.append(c);
+                return false;
+            if (power < MAX_POWER_BEFORE_MUL)
+                power = power * 10 + (c - '0');
         }
-        return toDoubleOrBigDecimal(stringBuilder, postfix, content);
+        // the default Integer.MAX_VALUE means no limit, larger exponents still underflow to zero or overflow
+        if (maxExponent != Integer.MAX_VALUE && power > maxExponent)
+            return result.fail(NumberStatus.EXPONENT_TOO_LARGE);
+        return toDoubleOrBigDecimal(content, start, end, sign, mantissa, exponent + eSign * power, truncated, postfix,
+                result);
     }
 
-    private boolean isPowerChar(int radix, char c, int index, int length, String content) {
+    private boolean isPowerChar(int radix, char c, int start, int index, int end, CharSequence content) {
         return (c == 'e' || c == 'E') && radix == 10
-                && afterDigit(index, content) && beforeSignOrDigit(index, length, content);
+                && afterDigit(start, index, content) && beforeSignOrDigit(index, end, content);
     }
 
-    private boolean beforeSignOrDigit(int index, int length, String content) {
-        if (index >= length)
+    private boolean beforeSignOrDigit(int index, int end, CharSequence content) {
+        if (index >= end)
             return false;
         char c = content.charAt(index);
         return (isDigit(c) || c == '-' || c == '+');
     }
 
-    private boolean isFloatDot(int radix, char c, int index, int length, String content) {
-        return c == '.' && radix == 10 && afterDigit(index, content) && beforeDigit(index, length, content);
+    private boolean isFloatDot(int radix, char c, int start, int index, int end, CharSequence content) {
+        return c == '.' && radix == 10 && afterDigit(start, index, content) && beforeDigit(index, end, content);
     }
 
-    private boolean beforeDigit(int index, int length, String content) {
-        return index < length && isDigit(content.charAt(index));
+    private boolean beforeDigit(int index, int end, CharSequence content) {
+        return index < end && isDigit(content.charAt(index));
     }
 
-    private boolean afterDigit(int index, String content) {
-        return index > 1 && isDigit(content.charAt(index - 2));
+    private boolean afterDigit(int start, int index, CharSequence content) {
+        return index - 2 >= start && isDigit(content.charAt(index - 2));
     }
 
     private boolean notDigit(char c) {
@@ -278,80 +612,337 @@ public class NumberParser {
         return c >= '0' && c <= '9';
     }
 
-    private Number parseDoubleWithDot(StringBuilder stringBuilder, int radix, String content, int index, int length, StringNumberPostfix postfix) {
-        stringBuilder.append('.');
-        while (index < length) {
+    private boolean canAppendDigit(long mantissa) {
+        return Long.compareUnsigned(mantissa, MAX_MANTISSA_BEFORE_MUL) <= 0;
+    }
+
+    private boolean parseDoubleWithDot(CharSequence content, int start, int index, int end, int sign, long mantissa,
+                                       long exponent, boolean truncated, NumberPostfix postfix, NumberResult result) {
+        while (index < end) {
             char c = content.charAt(index++);
-            if (c == '_' && index != length)
+            if (c == '_' && underscore && index != end)
                 continue;
-            if (isPowerChar(radix, c, index, length, content))
-                return parseDoubleWithPower(content, index, length, stringBuilder, postfix);
+            if (isPowerChar(10, c, start, index, end, content))
+                return parseDoubleWithPower(content, start, index, end, sign, mantissa, exponent, truncated, postfix,
+                        result);
             if (notDigit(c))
-                return null;
-            stringBuilder.append(c);
+                return false;
+            if (canAppendDigit(mantissa)) {
+                mantissa = mantissa * 10 + (c - '0');
+                exponent--;
+            } else
+                truncated = true;
         }
-        return toDoubleOrBigDecimal(stringBuilder, postfix, content);
+        return toDoubleOrBigDecimal(content, start, end, sign, mantissa, exponent, truncated, postfix, result);
     }
 
-    private Number toDoubleOrBigDecimal(StringBuilder stringBuilder, StringNumberPostfix postfix, String content) {
-        String numberString = stringBuilder.toString();
-        if (postfix != null)
-            return postfix.convertFromDecimal(numberString, content);
-        double d = Double.parseDouble(numberString);
-        if (Double.isInfinite(d))
-            return new BigDecimal(numberString);
+    private boolean toDoubleOrBigDecimal(CharSequence content, int start, int end, int sign, long mantissa,
+                                         long exponent, boolean truncated, NumberPostfix postfix, NumberResult result) {
+        if (postfix == null) {
+            double d = toDouble(content, start, end, sign, mantissa, exponent, truncated);
+            if (Double.isInfinite(d)) {
+                if (!bigDecimalFallback)
+                    return result.fail(NumberStatus.OUT_OF_DOUBLE_RANGE);
+                setBigDecimal(content, start, end, sign, mantissa, exponent, truncated, result);
+            }
+            else
+                result.setDouble(d);
+            return true;
+        }
+        if (postfix.type == null)
+            return result.fail(NumberStatus.OVERFLOW);
+        switch (postfix.type) {
+            case FLOAT:
+                float f = FastDecimalConverter.toFloat(sign == -1, mantissa, exponent, truncated);
+                if (Float.isNaN(f))
+                    f = Float.parseFloat(numberString(content, start, end));
+                if (Float.isInfinite(f))
+                    break;
+                result.setFloat(f);
+                return true;
+            case DOUBLE:
+                double d = toDouble(content, start, end, sign, mantissa, exponent, truncated);
+                if (Double.isInfinite(d))
+                    break;
+                result.setDouble(d);
+                return true;
+            case BIG_DECIMAL:
+                setBigDecimal(content, start, end, sign, mantissa, exponent, truncated, result);
+                return true;
+        }
+        return result.fail(NumberStatus.OVERFLOW);
+    }
+
+    private void setBigDecimal(CharSequence content, int start, int end, int sign, long mantissa, long exponent,
+                               boolean truncated, NumberResult result) {
+        if (result.typeOnly)
+            result.setType(NumberType.BIG_DECIMAL);
+        else
+            result.set(toBigDecimal(content, start, end, sign, mantissa, exponent, truncated));
+    }
+
+    private double toDouble(CharSequence content, int start, int end, int sign, long mantissa, long exponent,
+                            boolean truncated) {
+        double d = FastDecimalConverter.toDouble(sign == -1, mantissa, exponent, truncated);
+        if (Double.isNaN(d))
+            return Double.parseDouble(numberString(content, start, end));
         return d;
     }
 
-    private Number continueParseLong(int sign, int radix, long number, int digit, int index,
-                                     String content, int length, PrimitiveIntegerPostfix postfix) {
-        number = number * radix - digit;
+    private BigDecimal toBigDecimal(CharSequence content, int start, int end, int sign, long mantissa, long exponent,
+                                    boolean truncated) {
+        if (truncated)
+            return toBigDecimal(content, start, end, sign);
+        if (exponent != (int) exponent || exponent == Integer.MIN_VALUE)
+            return bigDecimalOf(content, start, end);
+        if (mantissa >= 0)
+            return BigDecimal.valueOf(sign * mantissa, (int) -exponent);
+        BigInteger unscaled = BigInteger.valueOf(mantissa >>> 1).shiftLeft(1).add(BigInteger.valueOf(mantissa & 1));
+        return new BigDecimal(sign == -1 ? unscaled.negate() : unscaled, (int) -exponent);
+    }
+
+    private BigDecimal toBigDecimal(CharSequence content, int start, int end, int sign) {
+        int dot = -1, power = end;
+        for (int i = start; i < end; i++) {
+            char c = content.charAt(i);
+            if (c == '.')
+                dot = i;
+            else if (c == 'e' || c == 'E') {
+                power = i;
+                break;
+            }
+        }
+        long scale = 0;
+        if (dot != -1)
+            for (int i = dot + 1; i < power; i++)
+                if (isDigit(content.charAt(i)))
+                    scale++;
+        long exponent = 0;
+        int eSign = 1;
+        for (int i = power + 1; i < end; i++) {
+            char c = content.charAt(i);
+            if (c == '-')
+                eSign = -1;
+            else if (isDigit(c) && (exponent = exponent * 10 + (c - '0')) > Integer.MAX_VALUE)
+                return bigDecimalOf(content, start, end);
+        }
+        scale -= eSign * exponent;
+        if (scale != (int) scale)
+            return bigDecimalOf(content, start, end);
+        return new BigDecimal(decimalToBigInteger(content, start, power, sign), (int) scale);
+    }
+
+    private BigInteger decimalToBigInteger(CharSequence content, int start, int end, int sign) {
+        int digits = 0;
+        for (int i = start; i < end; i++)
+            if (getDigit(10, content.charAt(i)) >= 0)
+                digits++;
+        int[] groups = new int[(digits + DIGITS_PER_GROUP - 1) / DIGITS_PER_GROUP];
+        int group = 0, g = 0, left = digits - (groups.length - 1) * DIGITS_PER_GROUP;
+        for (int i = start; i < end; i++) {
+            int digit = getDigit(10, content.charAt(i));
+            if (digit >= 0) {
+                group = group * 10 + digit;
+                if (--left == 0) {
+                    groups[g++] = group;
+                    group = 0;
+                    left = DIGITS_PER_GROUP;
+                }
+            }
+        }
+        BigInteger number = groupsToBigInteger(groups, 0, groups.length);
+        return sign == -1 ? number.negate() : number;
+    }
+
+    private BigInteger groupsToBigInteger(int[] groups, int from, int to) {
+        if (to - from <= SCHOOLBOOK_GROUPS)
+            return schoolbookToBigInteger(groups, from, to);
+        int k = 31 - Integer.numberOfLeadingZeros(to - from - 1);
+        int mid = to - (1 << k);
+        return groupsToBigInteger(groups, from, mid).multiply(groupBasePower(k))
+                .add(groupsToBigInteger(groups, mid, to));
+    }
+
+    private BigInteger schoolbookToBigInteger(int[] groups, int from, int to) {
+        int[] words = new int[to - from];
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            long carry = groups[i];
+            for (int j = 0; j < length; j++) {
+                long product = (words[j] & 0xffffffffL) * GROUP_BASE + carry;
+                words[j] = (int) product;
+                carry = product >>> 32;
+            }
+            if (carry != 0)
+                words[length++] = (int) carry;
+        }
+        if (length == 0)
+            return BigInteger.ZERO;
+        byte[] magnitude = new byte[length * 4];
+        for (int j = 0; j < length; j++) {
+            int at = (length - 1 - j) * 4;
+            magnitude[at] = (byte) (words[j] >>> 24);
+            magnitude[at + 1] = (byte) (words[j] >>> 16);
+            magnitude[at + 2] = (byte) (words[j] >>> 8);
+            magnitude[at + 3] = (byte) words[j];
+        }
+        return new BigInteger(1, magnitude);
+    }
+
+    private static BigInteger groupBasePower(int k) {
+        BigInteger[] powers = groupBasePowers;
+        if (k >= powers.length) {
+            int length = powers.length;
+            powers = Arrays.copyOf(powers, k + 1);
+            for (int i = length; i <= k; i++)
+                powers[i] = powers[i - 1].multiply(powers[i - 1]);
+            groupBasePowers = powers;
+        }
+        return powers[k];
+    }
+
+    private String numberString(CharSequence content, int start, int end) {
+        char[] chars = scratchBuffer(end - start);
+        return new String(chars, 0, numberChars(content, start, end, chars));
+    }
+
+    private BigDecimal bigDecimalOf(CharSequence content, int start, int end) {
+        char[] chars = scratchBuffer(end - start);
+        return new BigDecimal(chars, 0, numberChars(content, start, end, chars));
+    }
+
+    private int numberChars(CharSequence content, int start, int end, char[] chars) {
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            char c = content.charAt(i);
+            if (c != '_')
+                chars[length++] = c;
+        }
+        return length;
+    }
+
+    private char[] scratchBuffer(int length) {
+        if (length > scratchBufferSize)
+            return new char[length];
+        char[] chars = SCRATCH_BUFFER.get();
+        if (chars == null || chars.length < length) {
+            chars = new char[Math.min(Math.max(length, chars == null ? MIN_SCRATCH_BUFFER : chars.length * 2),
+                    scratchBufferSize)];
+            SCRATCH_BUFFER.set(chars);
+        }
+        return chars;
+    }
+
+    private boolean continueParseLong(int sign, long number, int start, int index, CharSequence content, int end,
+                                      NumberPostfix postfix, NumberResult result) {
+        int digit;
         long limitLong = sign == 1 ? -Long.MAX_VALUE : Long.MIN_VALUE;
-        long limitBeforeMulLong = limitLong / radix;
-        while (index < length) {
+        long limitBeforeMulLong = limitLong / 10;
+        while (index < end) {
             char c = content.charAt(index++);
-            if (c == '_' && index != length)
+            if (c == '_' && underscore && index != end)
                 continue;
-            digit = getDigit(radix, c);
+            digit = getDigit(10, c);
             if (digit < 0) {
-                if (isFloatDot(radix, c, index, length, content))
-                    return parseDoubleWithDot(toStringBuilder(radix, sign, number, length), radix, content, index, length, postfix);
-                if (isPowerChar(radix, c, index, length, content))
-                    return parseDoubleWithPower(content, index, length, toStringBuilder(radix, sign, number, length), postfix);
-                return null;
+                if (isFloatDot(10, c, start, index, end, content))
+                    return parseDoubleWithDot(content, start, index, end, sign, -number, 0, false, postfix, result);
+                if (isPowerChar(10, c, start, index, end, content))
+                    return parseDoubleWithPower(content, start, index, end, sign, -number, 0, false, postfix, result);
+                return false;
             }
-            if (isOverflow(digit, number, limitLong, limitBeforeMulLong, radix))
-                return continueParseBigInteger(radix, index, content, length, postfix,
-                        toStringBuilder(radix, sign, number, length).append(c));
-            number = number * radix - digit;
+            if (isOverflow(digit, number, limitLong, limitBeforeMulLong, 10))
+                return continueParseBigInteger(sign, -number, digit, start, index, content, end, postfix, result);
+            number = number * 10 - digit;
         }
-        if (sign == 1)
-            number = -number;
-        return postfix == null ? number : postfix.convertFrom(number, content);
+        return toInteger(sign == 1 ? -number : number, sign, postfix, result);
     }
 
-    private Number continueParseBigInteger(int radix, int index, String content, int length,
-                                           StringNumberPostfix postfix, StringBuilder stringBuilder) {
-        while (index < length) {
+    private boolean continueParseBigInteger(int sign, long mantissa, int digit, int start, int index,
+                                            CharSequence content, int end, NumberPostfix postfix, NumberResult result) {
+        long exponent = 0;
+        boolean truncated = false;
+        if (canAppendDigit(mantissa))
+            mantissa = mantissa * 10 + digit;
+        else {
+            exponent++;
+            truncated = true;
+        }
+        while (index < end) {
             char c = content.charAt(index++);
-            if (c == '_' && index != length)
+            if (c == '_' && underscore && index != end)
                 continue;
-            int digit = getDigit(radix, c);
+            digit = getDigit(10, c);
             if (digit < 0) {
-                if (isFloatDot(radix, c, index, length, content))
-                    return parseDoubleWithDot(stringBuilder, radix, content, index, length, postfix);
-                if (isPowerChar(radix, c, index, length, content))
-                    return parseDoubleWithPower(content, index, length, stringBuilder, postfix);
-                return null;
+                if (isFloatDot(10, c, start, index, end, content))
+                    return parseDoubleWithDot(content, start, index, end, sign, mantissa, exponent, truncated, postfix,
+                            result);
+                if (isPowerChar(10, c, start, index, end, content))
+                    return parseDoubleWithPower(content, start, index, end, sign, mantissa, exponent, truncated, postfix,
+                            result);
+                return false;
+            }
+            if (canAppendDigit(mantissa))
+                mantissa = mantissa * 10 + digit;
+            else {
+                exponent++;
+                truncated = true;
             }
-            stringBuilder.append(c);
         }
-        return postfix == null ? new BigInteger(stringBuilder.toString(), radix)
-                : postfix.convertFromBigInteger(stringBuilder.toString(), radix, content);
+        boolean withinBitLength = true;
+        if ((end - start) * LOG2_10 > maxBitLength) {
+            int digits = countDigits(content, start, end, 10, (int) (maxBitLength / LOG2_10) + 1);
+            if ((int) ((digits - 1) * LOG2_10) + 1 > maxBitLength)
+                return result.fail(NumberStatus.BIT_LENGTH_TOO_LARGE);
+            withinBitLength = (int) (digits * LOG2_10) + 1 <= maxBitLength;
+        }
+        if (result.typeOnly && withinBitLength && (postfix == null
+                || postfix.type != NumberType.FLOAT && postfix.type != NumberType.DOUBLE))
+            return classifyBigInteger(postfix, result);
+        return toBigInteger(decimalToBigInteger(content, start, end, sign), postfix, result);
+    }
+
+    private boolean classifyBigInteger(NumberPostfix postfix, NumberResult result) {
+        if (postfix == null || postfix.type == NumberType.BIG_INTEGER) {
+            result.setType(NumberType.BIG_INTEGER);
+            return true;
+        }
+        if (postfix.type == NumberType.BIG_DECIMAL) {
+            result.setType(NumberType.BIG_DECIMAL);
+            return true;
+        }
+        return result.fail(NumberStatus.OVERFLOW);
     }
 
-    private StringBuilder toStringBuilder(int radix, int sign, long number, int length) {
-        return newStringBuilder(length, sign).append(Long.toString(-number, radix));
+    private boolean toBigInteger(BigInteger number, NumberPostfix postfix, NumberResult result) {
+        if (number.bitLength() > maxBitLength)
+            return result.fail(NumberStatus.BIT_LENGTH_TOO_LARGE);
+        if (postfix == null) {
+            result.set(number);
+            return true;
+        }
+        if (postfix.type == null)
+            return result.fail(NumberStatus.OVERFLOW);
+        switch (postfix.type) {
+            case BIG_INTEGER:
+                result.set(number);
+                return true;
+            case FLOAT:
+                float f = number.floatValue();
+                if (Float.isInfinite(f))
+                    break;
+                result.setFloat(f);
+                return true;
+            case DOUBLE:
+                double d = number.doubleValue();
+                if (Double.isInfinite(d))
+                    break;
+                result.setDouble(d);
+                return true;
+            case BIG_DECIMAL:
+                result.set(new BigDecimal(number));
+                return true;
+        }
+        return result.fail(NumberStatus.OVERFLOW);
     }
 
     private boolean isOverflow(int digit, int number, int limit, int limitBeforeMul, int radix) {
@@ -374,4 +965,88 @@ public class NumberParser {
             return value;
         return -1;
     }
+
+    public static class Builder {
+        private int maxDigits = Integer.MAX_VALUE, maxExponent = Integer.MAX_VALUE, maxBitLength = Integer.MAX_VALUE;
+        private int scratchBufferSize;
+        private PostfixTable postfixes = POSTFIXES;
+        private boolean underscore = true, hexadecimal = true, octal = true, binary = true, postfix = true,
+                bigDecimalFallback = true;
+
+        private Builder() {
+        }
+
+        private Builder(NumberParser numberParser) {
+            maxDigits = numberParser.maxDigits;
+            maxExponent = numberParser.maxExponent;
+            maxBitLength = numberParser.maxBitLength;
+            scratchBufferSize = numberParser.scratchBufferSize;
+            postfixes = numberParser.postfixes;
+            underscore = numberParser.underscore;
+            hexadecimal = numberParser.hexadecimal;
+            octal = numberParser.octal;
+            binary = numberParser.binary;
+            postfix = numberParser.postfixEnabled;
+            bigDecimalFallback = numberParser.bigDecimalFallback;
+        }
+
+        public Builder maxDigits(int maxDigits) {
+            this.maxDigits = maxDigits;
+            return this;
+        }
+
+        public Builder maxExponent(int maxExponent) {
+            this.maxExponent = maxExponent;
+            return this;
+        }
+
+        public Builder maxBitLength(int maxBitLength) {
+            this.maxBitLength = maxBitLength;
+            return this;
+        }
+
+        public Builder scratchBufferSize(int scratchBufferSize) {
+            this.scratchBufferSize = scratchBufferSize;
+            return this;
+        }
+
+        public Builder underscore(boolean underscore) {
+            this.underscore = underscore;
+            return this;
+        }
+
+        public Builder hexadecimal(boolean hexadecimal) {
+            this.hexadecimal = hexadecimal;
+            return this;
+        }
+
+        public Builder octal(boolean octal) {
+            this.octal = octal;
+            return this;
+        }
+
+        public Builder binary(boolean binary) {
+            this.binary = binary;
+            return this;
+        }
+
+        public Builder postfix(boolean postfix) {
+            this.postfix = postfix;
+            return this;
+        }
+
+        public Builder postfix(NumberPostfix postfix) {
+            postfixes = postfixes.with(postfix);
+            return this;
+        }
+
+        public Builder bigDecimalFallback(boolean bigDecimalFallback) {
+            this.bigDecimalFallback = bigDecimalFallback;
+            return this;
+        }
+
+        public NumberParser build() {
+            return new NumberParser(this);
+        }
+    }
 }
@@ -0,0 +1,128 @@
+package com.github.leeonky.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class NumberParserCache {
+    private static final int WAYS = 4;
+    private static final int MAX_LITERAL_LENGTH = 64;
+    private final NumberParser numberParser;
+    private final AtomicReferenceArray<Entry> entries;
+    private final int ways, setMask;
+    private final LongAdder hits = new LongAdder(), misses = new LongAdder(), evictions = new LongAdder();
+
+    public NumberParserCache(NumberParser numberParser, int maximumSize) {
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("maximumSize should be positive, but was " + maximumSize);
+        this.numberParser = numberParser;
+        ways = Math.min(WAYS, maximumSize);
+        int sets = Integer.highestOneBit(maximumSize / ways);
+        entries = new AtomicReferenceArray<>(sets * ways);
+        setMask = sets - 1;
+    }
+
+    public Number parse(String content) {
+        if (content == null)
+            return null;
+        return parse(content, 0, content.length(), content.hashCode());
+    }
+
+    public Number parse(CharSequence content, int start, int end) {
+        if (start < 0 || start > end || end > content.length())
+            return numberParser.parse(content, start, end);
+        int hash = 0;
+        for (int i = start; i < end; i++)
+            hash = 31 * hash + content.charAt(i);
+        return parse(content, start, end, hash);
+    }
+
+    private Number parse(CharSequence content, int start, int end, int hash) {
+        if (end - start > MAX_LITERAL_LENGTH)
+            return numberParser.parse(content, start, end);
+        int set = ((hash ^ (hash >>> 16)) & setMask) * ways;
+        for (int i = set; i < set + ways; i++) {
+            Entry entry = entries.get(i);
+            if (entry != null && entry.matches(hash, content, start, end)) {
+                if (!entry.referenced)
+                    entry.referenced = true;
+                hits.increment();
+                return entry.number;
+            }
+        }
+        misses.increment();
+        Number number = numberParser.parse(content, start, end);
+        if (number != null)
+            put(set, new Entry(hash, content.subSequence(start, end).toString(), number));
+        return number;
+    }
+
+    private void put(int set, Entry entry) {
+        for (int i = set; i < set + ways; i++) {
+            Entry exist = entries.get(i);
+            if (exist == null ? entries.compareAndSet(i, null, entry) : exist.matches(entry.hash, entry.key, 0,
+                    entry.key.length()))
+                return;
+        }
+        for (int i = set; i < set + ways; i++) {
+            Entry exist = entries.get(i);
+            if (exist.referenced)
+                exist.referenced = false;
+            else if (replace(i, exist, entry))
+                return;
+        }
+        replace(set, entries.get(set), entry);
+    }
+
+    private boolean replace(int i, Entry exist, Entry entry) {
+        if (!entries.compareAndSet(i, exist, entry))
+            return false;
+        evictions.increment();
+        return true;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < entries.length(); i++)
+            if (entries.get(i) != null)
+                size++;
+        return size;
+    }
+
+    public int capacity() {
+        return entries.length();
+    }
+
+    private static class Entry {
+        final int hash;
+        final String key;
+        final Number number;
+        volatile boolean referenced;
+
+        Entry(int hash, String key, Number number) {
+            this.hash = hash;
+            this.key = key;
+            this.number = number;
+        }
+
+        boolean matches(int hash, CharSequence content, int start, int end) {
+            if (this.hash != hash || key.length() != end - start)
+                return false;
+            for (int i = 0; i < key.length(); i++)
+                if (key.charAt(i) != content.charAt(start + i))
+                    return false;
+            return true;
+        }
+    }
+}
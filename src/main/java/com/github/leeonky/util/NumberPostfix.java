@@ -0,0 +1,38 @@
+package com.github.leeonky.util;
+
+public abstract class NumberPostfix {
+    final String postfix;
+    final int length;
+    final NumberType type;
+
+    protected NumberPostfix(String postfix) {
+        this(validate(postfix), null);
+    }
+
+    NumberPostfix(String postfix, NumberType type) {
+        this.postfix = postfix;
+        length = postfix.length();
+        this.type = type;
+    }
+
+    private static String validate(String postfix) {
+        if (postfix == null || postfix.isEmpty() || postfix.length() > 2)
+            throw new IllegalArgumentException("Postfix should be one or two chars, but was [" + postfix + "]");
+        for (int i = 0; i < postfix.length(); i++) {
+            char c = postfix.charAt(i);
+            if (c <= ' ' || c >= 0x7F || c >= '0' && c <= '9' || c == '_' || c == '.' || c == '+' || c == '-')
+                throw new IllegalArgumentException("Invalid postfix [" + postfix + "]");
+        }
+        return postfix;
+    }
+
+    public String getPostfix() {
+        return postfix;
+    }
+
+    boolean appliesTo(int radix) {
+        if (type == NumberType.FLOAT || type == NumberType.DOUBLE || type == NumberType.BIG_DECIMAL)
+            return radix == 10;
+        return Character.digit(postfix.charAt(length - 1), radix) < 0;
+    }
+}
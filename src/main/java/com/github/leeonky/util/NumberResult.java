@@ -0,0 +1,168 @@
+package com.github.leeonky.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+public class NumberResult {
+    private NumberStatus status = NumberStatus.NOT_NUMBER;
+    private NumberType type;
+    private long longValue;
+    private double doubleValue;
+    private Number value;
+    boolean typeOnly;
+
+    public NumberType getType() {
+        return type;
+    }
+
+    public NumberStatus getStatus() {
+        return status;
+    }
+
+    public boolean isNumber() {
+        return status == NumberStatus.NUMBER;
+    }
+
+    // only byte, short and int results, a wider number is never narrowed silently
+    public int intValue() {
+        switch (checkType()) {
+            case BYTE:
+            case SHORT:
+            case INTEGER:
+                return (int) longValue;
+            default:
+                throw new IllegalStateException("Result type is " + type + ", not an int");
+        }
+    }
+
+    public long longValue() {
+        switch (checkType()) {
+            case BYTE:
+            case SHORT:
+            case INTEGER:
+            case LONG:
+                return longValue;
+            case FLOAT:
+            case DOUBLE:
+                return (long) doubleValue;
+            default:
+                return value.longValue();
+        }
+    }
+
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    public double doubleValue() {
+        switch (checkType()) {
+            case BYTE:
+            case SHORT:
+            case INTEGER:
+            case LONG:
+                return longValue;
+            case FLOAT:
+            case DOUBLE:
+                return doubleValue;
+            default:
+                return value.doubleValue();
+        }
+    }
+
+    public Number toNumber() {
+        if (type == null)
+            return null;
+        switch (type) {
+            case BYTE:
+                return (byte) longValue;
+            case SHORT:
+                return (short) longValue;
+            case INTEGER:
+                return (int) longValue;
+            case LONG:
+                return longValue;
+            case FLOAT:
+                return (float) doubleValue;
+            case DOUBLE:
+                return doubleValue;
+            default:
+                return value;
+        }
+    }
+
+    private NumberType checkType() {
+        if (type == null)
+            throw new IllegalStateException("Result status is " + status + ", not a number");
+        return type;
+    }
+
+    void reset() {
+        fail(NumberStatus.NOT_NUMBER);
+    }
+
+    boolean fail(NumberStatus status) {
+        this.status = status;
+        type = null;
+        value = null;
+        return false;
+    }
+
+    void setType(NumberType type) {
+        status = NumberStatus.NUMBER;
+        this.type = type;
+        value = null;
+    }
+
+    void setInt(int number) {
+        setType(NumberType.INTEGER);
+        longValue = number;
+    }
+
+    void setLong(long number) {
+        setType(NumberType.LONG);
+        longValue = number;
+    }
+
+    void setByte(byte number) {
+        setType(NumberType.BYTE);
+        longValue = number;
+    }
+
+    void setShort(short number) {
+        setType(NumberType.SHORT);
+        longValue = number;
+    }
+
+    void setFloat(float number) {
+        setType(NumberType.FLOAT);
+        doubleValue = number;
+    }
+
+    void setDouble(double number) {
+        setType(NumberType.DOUBLE);
+        doubleValue = number;
+    }
+
+    void set(Number number) {
+        if (number instanceof Integer)
+            setInt(number.intValue());
+        else if (number instanceof Long)
+            setLong(number.longValue());
+        else if (number instanceof Double)
+            setDouble(number.doubleValue());
+        else if (number instanceof Float)
+            setFloat(number.floatValue());
+        else if (number instanceof Byte)
+            setByte(number.byteValue());
+        else if (number instanceof Short)
+            setShort(number.shortValue());
+        else if (number instanceof BigInteger) {
+            setType(NumberType.BIG_INTEGER);
+            value = number;
+        } else if (number instanceof BigDecimal) {
+            setType(NumberType.BIG_DECIMAL);
+            value = number;
+        } else
+            throw new IllegalArgumentException("Unsupported number type: " + number.getClass().getName());
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.leeonky.util;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+public class NumberScanner {
+    private static final int INITIAL_BUFFER = 32;
+    private static final int MAX_RETAINED_BUFFER = 4096;
+    private final NumberParser numberParser;
+    private char[] buffer = new char[INITIAL_BUFFER];
+    private CharBuffer chars = CharBuffer.wrap(buffer);
+    private int length;
+    private boolean simple = true;
+    private char sign;
+    private long number;
+    private int digits;
+
+    public NumberScanner(NumberParser numberParser) {
+        this.numberParser = numberParser;
+    }
+
+    public NumberScanner feed(char[] chars, int offset, int length) {
+        for (int i = offset; i < offset + length; i++)
+            feed(chars[i]);
+        return this;
+    }
+
+    public NumberScanner feed(CharSequence content, int start, int end) {
+        for (int i = start; i < end; i++)
+            feed(content.charAt(i));
+        return this;
+    }
+
+    public NumberScanner feed(ByteBuffer buffer) {
+        while (buffer.hasRemaining())
+            feed((char) (buffer.get() & 0xff));
+        return this;
+    }
+
+    public Number end() {
+        try {
+            if (isSimpleNumber()) {
+                long value = value();
+                return value == (int) value ? (Number) (int) value : (Number) value;
+            }
+            return numberParser.parse(chars(), 0, length);
+        } finally {
+            reset();
+        }
+    }
+
+    public boolean end(NumberResult result) {
+        try {
+            if (isSimpleNumber()) {
+                long value = value();
+                if (value == (int) value)
+                    result.setInt((int) value);
+                else
+                    result.setLong(value);
+                return true;
+            }
+            return numberParser.parse(chars(), 0, length, result);
+        } finally {
+            reset();
+        }
+    }
+
+    public void reset() {
+        if (buffer.length > MAX_RETAINED_BUFFER) {
+            buffer = new char[INITIAL_BUFFER];
+            chars = CharBuffer.wrap(buffer);
+        }
+        length = 0;
+        simple = true;
+        sign = 0;
+        number = 0;
+        digits = 0;
+    }
+
+    private long value() {
+        return sign == '-' ? number : -number;
+    }
+
+    private boolean isSimpleNumber() {
+        return simple && digits > 0 && numberParser.withinMaxDigits(digits);
+    }
+
+    // sign and decimal digits in long range (without a leading zero radix prefix) are kept as a value,
+    // everything else is kept as text and left to NumberParser
+    private void feed(char c) {
+        if (simple) {
+            if (c >= '0' && c <= '9') {
+                if (digits != 1 || number != 0) {
+                    int digit = c - '0';
+                    long limit = sign == '-' ? Long.MIN_VALUE : -Long.MAX_VALUE;
+                    if (number >= limit / 10 && number * 10 >= limit + digit) {
+                        number = number * 10 - digit;
+                        digits++;
+                        return;
+                    }
+                }
+            } else if ((c == '-' || c == '+') && sign == 0 && digits == 0) {
+                sign = c;
+                return;
+            }
+            toText();
+        }
+        append(c);
+    }
+
+    private void toText() {
+        simple = false;
+        if (sign != 0)
+            append(sign);
+        if (digits > 0) {
+            String value = Long.toString(number);
+            for (int i = number < 0 ? 1 : 0; i < value.length(); i++)
+                append(value.charAt(i));
+        }
+    }
+
+    private void append(char c) {
+        if (length == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            chars = CharBuffer.wrap(buffer);
+        }
+        buffer[length++] = c;
+    }
+
+    private CharSequence chars() {
+        if (simple)
+            toText();
+        return chars;
+    }
+}
@@ -0,0 +1,5 @@
+package com.github.leeonky.util;
+
+public enum NumberStatus {
+    NUMBER, NOT_NUMBER, OVERFLOW, OUT_OF_DOUBLE_RANGE, TOO_MANY_DIGITS, EXPONENT_TOO_LARGE, BIT_LENGTH_TOO_LARGE
+}
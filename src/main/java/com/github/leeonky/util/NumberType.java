@@ -0,0 +1,5 @@
+package com.github.leeonky.util;
+
+public enum NumberType {
+    BYTE, SHORT, INTEGER, LONG, BIG_INTEGER, FLOAT, DOUBLE, BIG_DECIMAL
+}
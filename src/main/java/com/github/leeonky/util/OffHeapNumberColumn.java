@@ -0,0 +1,252 @@
+package com.github.leeonky.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.*;
+
+public class OffHeapNumberColumn implements Closeable {
+    private static final int DEFAULT_SEGMENT_SHIFT = 20;
+    private static final byte INVALID = -1;
+    private static final NumberType[] TYPES = NumberType.values();
+    private final int segmentShift, segmentCells;
+    private final FileChannel channel;
+    private final Path temporaryFile;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private final List<Number> bigNumbers = new ArrayList<>();
+    private long size;
+
+    OffHeapNumberColumn(int segmentShift, FileChannel channel, Path temporaryFile) {
+        this.segmentShift = segmentShift;
+        segmentCells = 1 << segmentShift;
+        this.channel = channel;
+        this.temporaryFile = temporaryFile;
+    }
+
+    public static OffHeapNumberColumn direct() {
+        return new OffHeapNumberColumn(DEFAULT_SEGMENT_SHIFT, null, null);
+    }
+
+    public static OffHeapNumberColumn mapped(Path file) throws IOException {
+        return new OffHeapNumberColumn(DEFAULT_SEGMENT_SHIFT,
+                FileChannel.open(file, CREATE, TRUNCATE_EXISTING, READ, WRITE), null);
+    }
+
+    public static OffHeapNumberColumn mapped() throws IOException {
+        Path file = Files.createTempFile("number-column", ".bin");
+        return new OffHeapNumberColumn(DEFAULT_SEGMENT_SHIFT, FileChannel.open(file, READ, WRITE), file);
+    }
+
+    void append(NumberResult result) {
+        int offset = (int) size & (segmentCells - 1);
+        if (offset == 0)
+            segments.add(allocate(segments.size()));
+        ByteBuffer segment = segments.get(segments.size() - 1);
+        byte tag = INVALID;
+        long bits = 0;
+        if (result.isNumber()) {
+            NumberType type = result.getType();
+            tag = (byte) type.ordinal();
+            switch (type) {
+                case BYTE:
+                case SHORT:
+                case INTEGER:
+                case LONG:
+                    bits = result.longValue();
+                    break;
+                case FLOAT:
+                case DOUBLE:
+                    bits = Double.doubleToRawLongBits(result.doubleValue());
+                    break;
+                default:
+                    bits = bigNumbers.size();
+                    bigNumbers.add(result.toNumber());
+            }
+        }
+        segment.putLong(offset << 3, bits);
+        segment.put((segmentCells << 3) + offset, tag);
+        size++;
+    }
+
+    private ByteBuffer allocate(int segmentIndex) {
+        int bytes = segmentCells * 9;
+        try {
+            ByteBuffer buffer = channel == null ? ByteBuffer.allocateDirect(bytes)
+                    : channel.map(FileChannel.MapMode.READ_WRITE, (long) segmentIndex * bytes, bytes);
+            return buffer.order(ByteOrder.nativeOrder());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isValid(long index) {
+        return tag(index) != INVALID;
+    }
+
+    public NumberType getType(long index) {
+        return type(tag(index));
+    }
+
+    public long getLong(long index) {
+        return toLong(tag(index), bits(index));
+    }
+
+    public double getDouble(long index) {
+        return toDouble(tag(index), bits(index));
+    }
+
+    public Number getNumber(long index) {
+        return toNumber(tag(index), bits(index));
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    private byte tag(long index) {
+        checkIndex(index);
+        return segments.get((int) (index >>> segmentShift)).get((segmentCells << 3) + offset(index));
+    }
+
+    private long bits(long index) {
+        return segments.get((int) (index >>> segmentShift)).getLong(offset(index) << 3);
+    }
+
+    private int offset(long index) {
+        return (int) index & (segmentCells - 1);
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+    }
+
+    private NumberType type(byte tag) {
+        return tag == INVALID ? null : TYPES[tag];
+    }
+
+    private long toLong(byte tag, long bits) {
+        NumberType type = type(tag);
+        if (type == null)
+            return 0;
+        switch (type) {
+            case FLOAT:
+            case DOUBLE:
+                return (long) Double.longBitsToDouble(bits);
+            case BIG_INTEGER:
+            case BIG_DECIMAL:
+                return bigNumbers.get((int) bits).longValue();
+            default:
+                return bits;
+        }
+    }
+
+    private double toDouble(byte tag, long bits) {
+        NumberType type = type(tag);
+        if (type == null)
+            return 0;
+        switch (type) {
+            case FLOAT:
+            case DOUBLE:
+                return Double.longBitsToDouble(bits);
+            case BIG_INTEGER:
+            case BIG_DECIMAL:
+                return bigNumbers.get((int) bits).doubleValue();
+            default:
+                return bits;
+        }
+    }
+
+    private Number toNumber(byte tag, long bits) {
+        NumberType type = type(tag);
+        if (type == null)
+            return null;
+        switch (type) {
+            case BYTE:
+                return (byte) bits;
+            case SHORT:
+                return (short) bits;
+            case INTEGER:
+                return (int) bits;
+            case LONG:
+                return bits;
+            case FLOAT:
+                return (float) Double.longBitsToDouble(bits);
+            case DOUBLE:
+                return Double.longBitsToDouble(bits);
+            default:
+                return bigNumbers.get((int) bits);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        segments.clear();
+        bigNumbers.clear();
+        size = 0;
+        if (channel != null) {
+            channel.close();
+            if (temporaryFile != null)
+                Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    public class Cursor {
+        private long index = -1;
+        private ByteBuffer segment;
+        private int offset;
+
+        public boolean next() {
+            if (index + 1 >= size)
+                return false;
+            offset = offset(++index);
+            if (offset == 0 || segment == null)
+                segment = segments.get((int) (index >>> segmentShift));
+            return true;
+        }
+
+        public long index() {
+            return index;
+        }
+
+        public boolean isValid() {
+            return tag() != INVALID;
+        }
+
+        public NumberType getType() {
+            return type(tag());
+        }
+
+        public long getLong() {
+            return toLong(tag(), bits());
+        }
+
+        public double getDouble() {
+            return toDouble(tag(), bits());
+        }
+
+        public Number getNumber() {
+            return toNumber(tag(), bits());
+        }
+
+        private byte tag() {
+            return segment.get((segmentCells << 3) + offset);
+        }
+
+        private long bits() {
+            return segment.getLong(offset << 3);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.leeonky.util;
+
+import java.util.Arrays;
+
+final class PostfixTable {
+    private static final int SIZE = 0x80;
+    private final NumberPostfix[] oneChar;
+    private final NumberPostfix[][] twoChars;
+
+    PostfixTable() {
+        this(new NumberPostfix[SIZE], new NumberPostfix[SIZE][]);
+    }
+
+    private PostfixTable(NumberPostfix[] oneChar, NumberPostfix[][] twoChars) {
+        this.oneChar = oneChar;
+        this.twoChars = twoChars;
+    }
+
+    PostfixTable with(NumberPostfix postfix) {
+        char last = postfix.postfix.charAt(postfix.length - 1);
+        if (postfix.length == 1) {
+            NumberPostfix[] oneChar = this.oneChar.clone();
+            oneChar[last] = postfix;
+            return new PostfixTable(oneChar, twoChars);
+        }
+        NumberPostfix[][] twoChars = this.twoChars.clone();
+        NumberPostfix[] candidates = twoChars[last];
+        if (candidates == null)
+            twoChars[last] = new NumberPostfix[]{postfix};
+        else {
+            int i = 0;
+            while (i < candidates.length && candidates[i].postfix.charAt(0) != postfix.postfix.charAt(0))
+                i++;
+            candidates = Arrays.copyOf(candidates, Math.max(i + 1, candidates.length));
+            candidates[i] = postfix;
+            twoChars[last] = candidates;
+        }
+        return new PostfixTable(oneChar, twoChars);
+    }
+
+    NumberPostfix find(CharSequence content, int start, int end, int radix) {
+        char last = content.charAt(end - 1);
+        if (last >= SIZE)
+            return null;
+        NumberPostfix[] candidates = twoChars[last];
+        if (candidates != null && end - start >= 2) {
+            char first = content.charAt(end - 2);
+            for (NumberPostfix postfix : candidates)
+                if (postfix.postfix.charAt(0) == first && postfix.appliesTo(radix))
+                    return postfix;
+        }
+        NumberPostfix postfix = oneChar[last];
+        if (postfix != null && postfix.appliesTo(radix))
+            return postfix;
+        return null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.leeonky.util;
+
+public abstract class PrimitiveIntegerPostfix extends NumberPostfix {
+    protected PrimitiveIntegerPostfix(String postfix) {
+        super(postfix);
+    }
+
+    // return null when the value can not be saved with this postfix
+    public abstract Number convert(long value);
+}
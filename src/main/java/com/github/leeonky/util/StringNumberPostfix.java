@@ -0,0 +1,10 @@
+package com.github.leeonky.util;
+
+public abstract class StringNumberPostfix extends NumberPostfix {
+    protected StringNumberPostfix(String postfix) {
+        super(postfix);
+    }
+
+    // number is the literal without postfix and '_', return null when it can not be saved with this postfix
+    public abstract Number convert(String number);
+}
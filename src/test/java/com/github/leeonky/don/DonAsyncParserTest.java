@@ -0,0 +1,138 @@
+package com.github.leeonky.don;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DonAsyncParserTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdown();
+    }
+
+    private byte[] utf8(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void many_documents_share_small_pool() {
+        List<byte[]> contents = new ArrayList<>();
+        List<DonTreeBuilder> builders = new ArrayList<>();
+        List<DonAsyncParser> parsers = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            contents.add(utf8("{\"id\": " + i + ", \"values\": [" + i * 1000L + ", \"s" + i + "\"]}"));
+            builders.add(new DonTreeBuilder());
+            parsers.add(new DonAsyncParser(builders.get(i), executor));
+        }
+
+        for (int offset = 0; offset < 40; offset += 3)
+            for (int i = 0; i < contents.size(); i++) {
+                byte[] content = contents.get(i);
+                if (offset < content.length)
+                    parsers.get(i).feed(ByteBuffer.wrap(content, offset, Math.min(3, content.length - offset)));
+            }
+        parsers.forEach(DonAsyncParser::end);
+        parsers.forEach(parser -> parser.getCompletion().join());
+
+        for (int i = 0; i < contents.size(); i++)
+            assertThat(builders.get(i).getValue())
+                    .isEqualTo(new DonParser().parse(new String(contents.get(i), StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void complete_exceptionally_and_ignore_following_chunks() {
+        DonAsyncParser parser = new DonAsyncParser(new DonTreeBuilder(), executor);
+
+        parser.feed(ByteBuffer.wrap(utf8("[1,]")));
+        parser.feed(ByteBuffer.wrap(utf8("[")));
+        parser.end();
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> parser.getCompletion().join());
+        assertThat(exception.getCause()).isInstanceOf(DonException.class).hasMessage("Unexpected char ']' at 3");
+    }
+
+    @Test
+    void same_errors_as_parser() {
+        for (String content : new String[]{"[1,]", "[tru]", "\"\\x\"", "[\u00e91 ]", "[\"\u00e9\", 1,]", "[1"}) {
+            DonAsyncParser parser = new DonAsyncParser(new DonTreeBuilder(), executor);
+            parser.feed(ByteBuffer.wrap(utf8(content)));
+            parser.end();
+
+            assertThat(assertThrows(CompletionException.class, () -> parser.getCompletion().join()).getCause())
+                    .as(content).isInstanceOf(DonException.class)
+                    .hasMessage(assertThrows(DonException.class, () -> new DonParser().parse(content)).getMessage());
+        }
+    }
+
+    @Test
+    void read_from_asynchronous_channel() {
+        StringBuilder document = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++)
+            document.append(i == 0 ? "" : ",").append("\"\u00e9").append(i).append('"');
+        byte[] content = utf8(document.append("]").toString());
+        DonTreeBuilder builder = new DonTreeBuilder();
+
+        new DonAsyncParser(builder, executor).read(new ByteArrayChannel(content), ByteBuffer.allocate(7)).join();
+
+        assertThat(builder.getValue()).isEqualTo(new DonParser().parse(document.toString()));
+    }
+
+    private class ByteArrayChannel implements AsynchronousByteChannel {
+        private final byte[] content;
+        private int position;
+
+        ByteArrayChannel(byte[] content) {
+            this.content = content;
+        }
+
+        @Override
+        public <A> void read(ByteBuffer dst, A attachment, CompletionHandler<Integer, ? super A> handler) {
+            int length = Math.min(dst.remaining(), content.length - position);
+            dst.put(content, position, length);
+            position += length;
+            CompletableFuture.runAsync(() -> handler.completed(length == 0 ? -1 : length, attachment));
+        }
+
+        @Override
+        public Future<Integer> read(ByteBuffer dst) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <A> void write(ByteBuffer src, A attachment, CompletionHandler<Integer, ? super A> handler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Integer> write(ByteBuffer src) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
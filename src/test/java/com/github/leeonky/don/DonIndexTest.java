@@ -0,0 +1,107 @@
+package com.github.leeonky.don;
+
+import com.github.leeonky.util.NumberOverflowException;
+import com.github.leeonky.util.NumberType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DonIndexTest {
+
+    private final String document = "{\"name\": \"a\\\"b\\u00e9\", \"rows\": [{\"id\": 1, \"price\": 1.5}, " +
+            "{\"id\": 2147483648, \"price\": 1e400}], \"flags\": [true, false, null], \"k\\u0065y\": {}}";
+
+    @Test
+    void same_values_as_parser() {
+        assertThat(new DonIndex(document).root().toObject()).isEqualTo(new DonParser().parse(document));
+    }
+
+    @Test
+    void navigate_and_read_accessed_values_only() {
+        DonIndex.Value root = new DonIndex(document).root();
+
+        assertThat(root.getToken()).isEqualTo(DonToken.BEGIN_OBJECT);
+        assertThat(root.size()).isEqualTo(4);
+        assertThat(root.getNames()).containsExactly("name", "rows", "flags", "key");
+        assertThat(root.get("name").getString()).isEqualTo("a\"b\u00e9");
+        assertThat(root.get("key").size()).isEqualTo(0);
+        assertThat(root.get("missing")).isNull();
+
+        DonIndex.Value rows = root.get("rows");
+        assertThat(rows.size()).isEqualTo(2);
+        assertThat(rows.get(0).get("price").getDouble()).isEqualTo(1.5);
+        assertThat(rows.get(1).get("id").getNumberType()).isEqualTo(NumberType.LONG);
+        assertThat(rows.get(1).get("id").getLong()).isEqualTo(2147483648L);
+        assertThat(rows.get(1).get("price").getNumber()).isEqualTo(new BigDecimal("1e400"));
+        assertThat(root.get("flags").get(0).getBoolean()).isTrue();
+        assertThat(root.get("flags").get(2).isNull()).isTrue();
+        assertThat(rows.get(1).getPosition()).isEqualTo(document.indexOf("{\"id\": 2"));
+    }
+
+    @Test
+    void index_values_in_document_order() {
+        DonIndex index = new DonIndex("[1, {\"a\": [2, 3]}, \"s\"]");
+
+        assertThat(index.size()).isEqualTo(8);
+        assertThat(index.root().get(2).getString()).isEqualTo("s");
+    }
+
+    @Test
+    void wrong_value_access() {
+        DonIndex.Value root = new DonIndex("[1, \"s\"]").root();
+
+        assertThat(assertThrows(IllegalStateException.class, () -> root.get("a")))
+                .hasMessage("Value is BEGIN_ARRAY, not an object");
+        assertThat(assertThrows(IndexOutOfBoundsException.class, () -> root.get(2)))
+                .hasMessage("Index 2 out of bounds for length 2");
+        assertThrows(IndexOutOfBoundsException.class, () -> root.get(-1));
+        assertThrows(IllegalStateException.class, () -> root.get(1).getNumber());
+        assertThrows(IllegalStateException.class, () -> root.get(0).getString());
+        assertThrows(IllegalStateException.class, () -> root.get(0).size());
+    }
+
+    @Test
+    void structural_errors_when_indexing() {
+        assertIndexError("", "Unexpected end of document at 0");
+        assertIndexError("[1,]", "Unexpected char ']' at 3");
+        assertIndexError("[1 2]", "Unexpected char '2' at 3");
+        assertIndexError("{\"a\" 1}", "Unexpected char '1' at 5");
+        assertIndexError("{1: 2}", "Unexpected char '1' at 1");
+        assertIndexError("[1}", "Unexpected char '}' at 2");
+        assertIndexError("[1", "Unexpected end of document at 2");
+        assertIndexError("1 2", "Unexpected char '2' at 2");
+        assertIndexError("\"abc", "Unterminated string at 4");
+        assertIndexError("\"abc\\\"", "Unterminated string at 6");
+    }
+
+    @Test
+    void literal_and_escape_errors_when_accessed() {
+        DonIndex.Value root = new DonIndex("[tru, 128y, \"\\x\", \"\\u12g4\"]").root();
+
+        assertThat(root.get(0).getToken()).isEqualTo(DonToken.NUMBER);
+        assertThat(assertThrows(DonException.class, () -> root.get(0).getNumber()))
+                .hasMessage("Invalid literal 'tru' at 1");
+        assertThrows(NumberOverflowException.class, () -> root.get(1).getNumber());
+        assertThat(assertThrows(DonException.class, () -> root.get(2).getString()))
+                .hasMessage("Invalid escape '\\x' at 14");
+        assertThat(assertThrows(DonException.class, () -> root.get(3).getString()))
+                .hasMessage("Invalid unicode escape at 23");
+    }
+
+    @Test
+    void position_relative_to_offset_of_char_array() {
+        DonIndex.Value root = new DonIndex("xx[1, 2]".toCharArray(), 2, 6).root();
+
+        assertThat(root.get(1).getPosition()).isEqualTo(4);
+        assertThat(assertThrows(DonException.class, () -> new DonIndex("xx[1,]".toCharArray(), 2, 4))
+                .getPosition()).isEqualTo(3);
+    }
+
+    private void assertIndexError(String content, String message) {
+        assertThat(assertThrows(DonException.class, () -> new DonIndex(content))).hasMessage(message);
+        assertThat(assertThrows(DonException.class, () -> new DonParser().parse(content))).hasMessage(message);
+    }
+}
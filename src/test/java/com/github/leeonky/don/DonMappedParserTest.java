@@ -0,0 +1,63 @@
+package com.github.leeonky.don;
+
+import com.github.leeonky.util.NumberOverflowException;
+import com.github.leeonky.util.NumberParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DonMappedParserTest {
+
+    private byte[] utf8(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void parse_file_across_mapped_windows() throws IOException {
+        StringBuilder document = new StringBuilder("{\"rows\": [");
+        for (int i = 0; i < 500; i++)
+            document.append(i == 0 ? "" : ", ").append("{\"id\": ").append(i).append(", \"price\": ")
+                    .append(i * 1.25).append("f, \"name\": \"\u4e2d").append(i).append("\\n\", \"ok\": ")
+                    .append(i % 3 == 0 ? "null" : String.valueOf(i % 2 == 0)).append("}");
+        String content = document.append("]}").toString();
+        Path file = Files.createTempFile("don", ".don");
+        try {
+            Files.write(file, utf8(content));
+            Object expected = new DonParser().parse(content);
+
+            assertThat(new DonMappedParser().parse(file)).isEqualTo(expected);
+            for (long windowSize : new long[]{1, 2, 3, 7, 4096})
+                assertThat(new DonMappedParser(new NumberParser(), windowSize).parse(file)).isEqualTo(expected);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void errors_and_number_exceptions_from_mapped_file() throws IOException {
+        Path file = Files.createTempFile("don", ".don");
+        try {
+            assertThat(assertThrows(DonException.class, () -> new DonMappedParser().parse(file)))
+                    .hasMessage("Unexpected end of document at 0");
+            Files.write(file, utf8("[1, 128y]"));
+            assertThrows(NumberOverflowException.class, () -> new DonMappedParser().parse(file));
+            Files.write(file, utf8("[1, 2x]"));
+            assertThat(assertThrows(DonException.class, () -> new DonMappedParser().parse(file)))
+                    .hasMessage("Invalid literal '2x' at 4");
+            Files.write(file, utf8("[\u00e91 ]"));
+            assertThat(assertThrows(DonException.class, () -> new DonMappedParser().parse(file)))
+                    .hasMessage("Invalid literal '\u00e91' at 1");
+            Files.write(file, utf8("[1, \u00fc ]"));
+            assertThat(assertThrows(DonException.class, () -> new DonMappedParser().parse(file)))
+                    .hasMessage("Invalid literal '\u00fc' at 4");
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
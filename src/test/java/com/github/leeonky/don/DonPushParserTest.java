@@ -0,0 +1,120 @@
+package com.github.leeonky.don;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DonPushParserTest {
+
+    private final String document = "{\"name\": \"\u4e2d\u00e9\uD83D\uDE00\", \"escaped\": \"a\\\"b\\u00e9\\n\", " +
+            "\"numbers\": [0, -1, 2147483648, 1.5f, 1e400, 0x10, 12345678901234567890], " +
+            "\"words\": [true, false, null], \"nested\": {\"a\": [[], {}]}}";
+
+    private Object push(byte[] content, int chunkSize) {
+        DonTreeBuilder builder = new DonTreeBuilder();
+        DonPushParser parser = new DonPushParser(builder);
+        for (int i = 0; i < content.length; i += chunkSize)
+            parser.feed(ByteBuffer.wrap(content, i, Math.min(chunkSize, content.length - i)));
+        parser.end();
+        return builder.getValue();
+    }
+
+    private byte[] utf8(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void same_values_as_parser_in_any_chunking() {
+        byte[] content = utf8(document);
+        Object expected = new DonParser().parse(document);
+
+        for (int chunkSize = 1; chunkSize <= content.length; chunkSize++)
+            assertThat(push(content, chunkSize)).isEqualTo(expected);
+    }
+
+    @Test
+    void emit_events_in_document_order() {
+        List<String> events = new ArrayList<>();
+        DonPushParser parser = new DonPushParser(new DonListener() {
+            @Override
+            public void beginArray() {
+                events.add("[");
+            }
+
+            @Override
+            public void endArray() {
+                events.add("]");
+            }
+
+            @Override
+            public void number(com.github.leeonky.util.NumberResult value) {
+                events.add(value.getType() + ":" + value.longValue());
+            }
+
+            @Override
+            public void endDocument() {
+                events.add("end");
+            }
+        });
+
+        parser.feed(ByteBuffer.wrap(utf8("[21474")));
+        assertThat(events).containsExactly("[");
+        parser.feed(ByteBuffer.wrap(utf8("83648, 1")));
+        assertThat(events).containsExactly("[", "LONG:2147483648");
+        parser.feed(ByteBuffer.wrap(utf8("]")));
+        parser.end();
+        assertThat(events).containsExactly("[", "LONG:2147483648", "INTEGER:1", "]", "end");
+    }
+
+    @Test
+    void top_level_literal_ends_with_document() {
+        assertThat(push(utf8("12"), 1)).isEqualTo(12);
+        assertThat(push(utf8(" true "), 1)).isEqualTo(true);
+    }
+
+    @Test
+    void invalid_utf8() {
+        assertInvalidUtf8(new byte[]{'"', (byte) 0xc0, (byte) 0x80, '"'}, 1);
+        assertInvalidUtf8(new byte[]{'"', (byte) 0xe0, (byte) 0x80, (byte) 0x80, '"'}, 1);
+        assertInvalidUtf8(new byte[]{'"', (byte) 0xed, (byte) 0xa0, (byte) 0x80, '"'}, 1);
+        assertInvalidUtf8(new byte[]{'"', (byte) 0xf4, (byte) 0x90, (byte) 0x80, (byte) 0x80, '"'}, 1);
+        assertInvalidUtf8(new byte[]{'"', 'a', (byte) 0xe4, 'b', '"'}, 2);
+        assertInvalidUtf8(new byte[]{'"', (byte) 0xe4, (byte) 0xb8}, 1);
+    }
+
+    @Test
+    void same_errors_as_parser_in_any_chunking() {
+        for (String content : new String[]{"", "[1,]", "[1 2]", "{\"a\" 1}", "{1: 2}", "[1}", "[1", "1 2", "[tru]",
+                "\"abc", "\"\\x\"", "\"\\u12g4\"", "[\u00e91 ]", "[1, \u00fc ]", "[ab\u4e2d, 1]", "\u00e9",
+                "[\"\u00e9\\x\"]", "[\"\u00e9\", 1,]"}) {
+            String message = assertThrows(DonException.class, () -> new DonParser().parse(content)).getMessage();
+            assertThat(assertThrows(DonException.class, () -> new DonParser().parse(new StringReader(content))))
+                    .hasMessage(message);
+            byte[] bytes = utf8(content);
+            for (int chunkSize = 1; chunkSize <= Math.max(1, bytes.length); chunkSize++) {
+                int size = chunkSize;
+                assertThat(assertThrows(DonException.class, () -> push(bytes, size))).as(content).hasMessage(message);
+            }
+        }
+    }
+
+    @Test
+    void invalid_literal_starts_with_non_ascii_char() {
+        assertThat(assertThrows(DonException.class, () -> push(utf8("[\u00e91 ]"), 16)))
+                .hasMessage("Invalid literal '\u00e91' at 1");
+        assertThat(assertThrows(DonException.class, () -> push(utf8("[1, \u00fc ]"), 16)))
+                .hasMessage("Invalid literal '\u00fc' at 4");
+    }
+
+    private void assertInvalidUtf8(byte[] content, int position) {
+        assertThat(assertThrows(DonException.class, () -> push(content, 1)))
+                .hasMessage("Invalid UTF-8 sequence at " + position);
+    }
+}
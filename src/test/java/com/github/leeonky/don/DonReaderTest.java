@@ -0,0 +1,207 @@
+package com.github.leeonky.don;
+
+import com.github.leeonky.util.NumberLimitExceededException;
+import com.github.leeonky.util.NumberOverflowException;
+import com.github.leeonky.util.NumberParser;
+import com.github.leeonky.util.NumberType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DonReaderTest {
+
+    private List<DonToken> tokens(String content) {
+        List<DonToken> tokens = new ArrayList<>();
+        DonReader reader = new DonReader(new StringReader(content));
+        DonToken token;
+        do
+            tokens.add(token = reader.next());
+        while (token != DonToken.END_DOCUMENT);
+        return tokens;
+    }
+
+    private Reader oneCharEachRead(String content) {
+        return new FilterReader(new StringReader(content)) {
+            @Override
+            public int read(char[] chars, int offset, int length) throws IOException {
+                return super.read(chars, offset, Math.min(1, length));
+            }
+        };
+    }
+
+    @Nested
+    class Tokens {
+
+        @Test
+        void single_values() {
+            assertThat(tokens("true")).containsExactly(DonToken.TRUE, DonToken.END_DOCUMENT);
+            assertThat(tokens(" false ")).containsExactly(DonToken.FALSE, DonToken.END_DOCUMENT);
+            assertThat(tokens("null")).containsExactly(DonToken.NULL, DonToken.END_DOCUMENT);
+            assertThat(tokens("\n1.5e3\n")).containsExactly(DonToken.NUMBER, DonToken.END_DOCUMENT);
+            assertThat(tokens("\"a\"")).containsExactly(DonToken.STRING, DonToken.END_DOCUMENT);
+        }
+
+        @Test
+        void containers() {
+            assertThat(tokens("{\"a\": [1, {}, []], \"b\": null}")).containsExactly(DonToken.BEGIN_OBJECT,
+                    DonToken.NAME, DonToken.BEGIN_ARRAY, DonToken.NUMBER, DonToken.BEGIN_OBJECT,
+                    DonToken.END_OBJECT, DonToken.BEGIN_ARRAY, DonToken.END_ARRAY, DonToken.END_ARRAY,
+                    DonToken.NAME, DonToken.NULL, DonToken.END_OBJECT, DonToken.END_DOCUMENT);
+        }
+
+        @Test
+        void number_value_without_boxing() {
+            DonReader reader = new DonReader("[2147483648,1.5f,0x10]".toCharArray(), 0, 22);
+
+            reader.next();
+            assertThat(reader.next()).isEqualTo(DonToken.NUMBER);
+            assertThat(reader.getNumberType()).isEqualTo(NumberType.LONG);
+            assertThat(reader.getLong()).isEqualTo(2147483648L);
+            reader.next();
+            assertThat(reader.getNumber()).isEqualTo(1.5f);
+            assertThat(reader.getDouble()).isEqualTo(1.5);
+            reader.next();
+            assertThat(reader.getNumber()).isEqualTo(16);
+            assertThat(reader.next()).isEqualTo(DonToken.END_ARRAY);
+            assertThrows(IllegalStateException.class, reader::getNumber);
+            assertThrows(IllegalStateException.class, reader::getString);
+            assertThrows(IllegalStateException.class, reader::getBoolean);
+        }
+
+        @Test
+        void string_escapes() {
+            DonReader reader = new DonReader(new StringReader("{\"k\\\"ey\": \"a\\\\b\\/c\\n\\t\\u4e2d\\u00e9\"}"));
+
+            reader.next();
+            assertThat(reader.next()).isEqualTo(DonToken.NAME);
+            assertThat(reader.getString()).isEqualTo("k\"ey");
+            assertThat(reader.next()).isEqualTo(DonToken.STRING);
+            assertThat(reader.getString()).isEqualTo("a\\b/c\n\t\u4e2d\u00e9");
+        }
+    }
+
+    @Nested
+    class Streaming {
+
+        @Test
+        void read_across_buffer_refills() {
+            StringBuilder content = new StringBuilder("[");
+            for (int i = 0; i < 5000; i++)
+                content.append(i == 0 ? "" : ", ")
+                        .append(i % 2 == 0 ? String.valueOf(i * 1000L) : "\"s" + i + "\\n\"");
+            content.append("]");
+
+            for (Reader input : new Reader[]{new StringReader(content.toString()),
+                    oneCharEachRead(content.toString())}) {
+                DonReader reader = new DonReader(input);
+                assertThat(reader.next()).isEqualTo(DonToken.BEGIN_ARRAY);
+                for (int i = 0; i < 5000; i++)
+                    if (i % 2 == 0) {
+                        assertThat(reader.next()).isEqualTo(DonToken.NUMBER);
+                        assertThat(reader.getLong()).isEqualTo(i * 1000L);
+                    } else {
+                        assertThat(reader.next()).isEqualTo(DonToken.STRING);
+                        assertThat(reader.getString()).isEqualTo("s" + i + "\n");
+                    }
+                assertThat(reader.next()).isEqualTo(DonToken.END_ARRAY);
+                assertThat(reader.next()).isEqualTo(DonToken.END_DOCUMENT);
+                assertThat(reader.getPosition()).isEqualTo(content.length());
+            }
+        }
+
+        @Test
+        void token_longer_than_buffer() {
+            String digits = String.join("", Collections.nCopies(20000, "7"));
+            String text = String.join("", Collections.nCopies(20000, "x"));
+
+            assertThat(new DonParser().parse(oneCharEachRead("[" + digits + ", \"" + text + "\"]")))
+                    .isEqualTo(Arrays.asList(new BigInteger(digits), text));
+        }
+
+        @Test
+        void deep_nesting() {
+            String content = String.join("", Collections.nCopies(100, "["))
+                    + String.join("", Collections.nCopies(100, "]"));
+            List<DonToken> tokens = tokens(content);
+
+            assertThat(tokens).hasSize(201);
+            assertThat(tokens.get(199)).isEqualTo(DonToken.END_ARRAY);
+        }
+    }
+
+    @Nested
+    class Errors {
+
+        @Test
+        void invalid_document() {
+            assertError("", "Unexpected end of document at 0");
+            assertError("[1,]", "Unexpected char ']' at 3");
+            assertError("[1 2]", "Unexpected char '2' at 3");
+            assertError("{\"a\" 1}", "Unexpected char '1' at 5");
+            assertError("{1: 2}", "Unexpected char '1' at 1");
+            assertError("[1}", "Unexpected char '}' at 2");
+            assertError("[1", "Unexpected end of document at 2");
+            assertError("1 2", "Unexpected char '2' at 2");
+            assertError("[tru]", "Invalid literal 'tru' at 1");
+            assertError("\"abc", "Unterminated string at 4");
+            assertError("\"\\x\"", "Invalid escape '\\x' at 2");
+            assertError("\"\\u12g4\"", "Invalid unicode escape at 5");
+        }
+
+        @Test
+        void number_overflow_and_limits_from_number_parser() {
+            assertThrows(NumberOverflowException.class, () -> new DonParser().parse("[128y]"));
+            assertThrows(NumberLimitExceededException.class,
+                    () -> new DonParser(new NumberParser().withMaxDigits(3)).parse("1234"));
+        }
+
+        @Test
+        void position_relative_to_offset_of_char_array() {
+            DonException exception = assertThrows(DonException.class,
+                    () -> new DonParser().parse("xx[1,]"));
+            assertThat(exception.getPosition()).isEqualTo(0);
+            DonReader reader = new DonReader("xx[1,]".toCharArray(), 2, 4);
+            reader.next();
+            reader.next();
+            assertThat(assertThrows(DonException.class, reader::next).getPosition()).isEqualTo(3);
+        }
+
+        private void assertError(String content, String message) {
+            assertThat(assertThrows(DonException.class, () -> new DonParser().parse(content))).hasMessage(message);
+            assertThat(assertThrows(DonException.class, () -> new DonParser().parse(new StringReader(content))))
+                    .hasMessage(message);
+        }
+    }
+
+    @Nested
+    class Parser {
+
+        @Test
+        void parse_document_to_java_objects() {
+            Map<String, Object> expected = new LinkedHashMap<>();
+            expected.put("int", 1);
+            expected.put("double", 1.0);
+            expected.put("big", new BigDecimal("1e400"));
+            expected.put("list", Arrays.asList(true, false, null, "s"));
+            expected.put("empty", new LinkedHashMap<>());
+
+            assertThat(new DonParser().parse("{\"int\": 1, \"double\": 1.0, \"big\": 1e400, " +
+                    "\"list\": [true, false, null, \"s\"], \"empty\": {}}")).isEqualTo(expected);
+        }
+    }
+}
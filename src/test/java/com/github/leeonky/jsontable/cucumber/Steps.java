@@ -1,5 +1,6 @@
 package com.github.leeonky.jsontable.cucumber;
 
+import com.github.leeonky.don.DonParser;
 import com.github.leeonky.util.NumberParser;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
@@ -8,7 +9,7 @@ import static com.github.leeonky.dal.extension.assertj.DALAssert.expect;
 
 public class Steps {
     private String inputCode;
-    private final JsonTableParser jsonTableParser = new JsonTableParser();
+    private final DonParser donParser = new DonParser();
 
     @Given("the following code:")
     public void the_following_code(String json) {
@@ -17,7 +18,7 @@ public class Steps {
 
     @Then("got the following data:")
     public void got_the_following_data(String assertion) {
-        expect(jsonTableParser.parse(inputCode)).should(assertion);
+        expect(donParser.parse(inputCode)).should(assertion);
     }
 
     @Then("got the following number:")
@@ -25,17 +26,8 @@ public class Steps {
         expect(new NumberParser().parse(inputCode)).should(assertion);
     }
 
-    public static class JsonTableParser {
-        NumberParser numberParser = new NumberParser();
-
-        public Object parse(String content) {
-            if (content.equals("null"))
-                return null;
-            if (content.equals("true"))
-                return true;
-            if (content.equals("false"))
-                return false;
-            return numberParser.parse(content);
-        }
+    @Then("got the following lazy number:")
+    public void got_the_following_lazy_number(String assertion) {
+        expect(new NumberParser().parseLazy(inputCode).materialize()).should(assertion);
     }
 }
@@ -0,0 +1,66 @@
+package com.github.leeonky.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NumberBatchParserTest {
+
+    @Test
+    void parse_array_in_order_and_report_errors_per_cell() {
+        NumberBatchResult result = new NumberBatchParser(new NumberParser())
+                .parse(new String[]{"1", "x", null, "128y", "1.5", "2147483648"});
+
+        assertThat(result.size()).isEqualTo(6);
+        assertThat(result.toArray()).containsExactly(1, null, null, null, 1.5, 2147483648L);
+        assertThat(result.getStatus(1)).isEqualTo(NumberStatus.NOT_NUMBER);
+        assertThat(result.getStatus(2)).isEqualTo(NumberStatus.NOT_NUMBER);
+        assertThat(result.getStatus(3)).isEqualTo(NumberStatus.OVERFLOW);
+        assertThat(result.isNumber(4)).isTrue();
+        assertThat(result.getErrorCount()).isEqualTo(3);
+    }
+
+    @Test
+    void parse_list_and_delimited_content() {
+        NumberBatchParser parser = new NumberBatchParser(new NumberParser());
+
+        assertThat(parser.parse(Arrays.asList("1", new StringBuilder("0x10"), null)).toArray())
+                .containsExactly(1, 16, null);
+        assertThat(parser.parse("[1,2.5,,1bi]", 1, 11, ',').toArray())
+                .containsExactly(1, 2.5, null, BigInteger.ONE);
+        assertThat(parser.parse("1,", 0, 2, ',').toArray()).containsExactly(1, null);
+        assertThat(parser.parse("", 0, 0, ',').size()).isZero();
+        assertThrows(IndexOutOfBoundsException.class, () -> parser.parse("1", 0, 2, ','));
+    }
+
+    @Test
+    void parse_large_batch_in_parallel_with_deterministic_order() {
+        NumberBatchParser parser = new NumberBatchParser(new NumberParser().withMaxDigits(5),
+                ForkJoinPool.commonPool(), 16);
+        String[] contents = new String[10000];
+        StringBuilder delimited = new StringBuilder();
+        for (int i = 0; i < contents.length; i++) {
+            contents[i] = i % 7 == 0 ? "bad" : i % 11 == 0 ? "1234567" : String.valueOf(i);
+            delimited.append(i == 0 ? "" : "|").append(contents[i]);
+        }
+
+        for (NumberBatchResult result : new NumberBatchResult[]{parser.parse(contents),
+                parser.parse(delimited, 0, delimited.length(), '|')}) {
+            assertThat(result.size()).isEqualTo(contents.length);
+            for (int i = 0; i < contents.length; i++)
+                if (i % 7 == 0)
+                    assertThat(result.getStatus(i)).isEqualTo(NumberStatus.NOT_NUMBER);
+                else if (i % 11 == 0)
+                    assertThat(result.getStatus(i)).isEqualTo(NumberStatus.TOO_MANY_DIGITS);
+                else
+                    assertThat(result.getNumber(i)).isEqualTo(i);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new NumberBatchParser(new NumberParser(),
+                ForkJoinPool.commonPool(), 0));
+    }
+}
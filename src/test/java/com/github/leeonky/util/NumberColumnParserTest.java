@@ -0,0 +1,65 @@
+package com.github.leeonky.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NumberColumnParserTest {
+
+    private final NumberColumnParser parser = new NumberColumnParser(new NumberParser());
+
+    @Test
+    void int_column() {
+        NumberColumn column = parser.parse(new String[]{"1", "-2", "3y", "4s", "0x7fffffff"});
+
+        assertThat(column.getType()).isEqualTo(NumberType.INTEGER);
+        assertThat(column.getInts()).containsExactly(1, -2, 3, 4, Integer.MAX_VALUE);
+        assertThat(column.getLongs()).isNull();
+        assertThat(column.getInvalidCount()).isZero();
+    }
+
+    @Test
+    void widen_to_long_and_double() {
+        NumberColumn longs = parser.parse(new String[]{"1", "2147483648", "3"});
+        assertThat(longs.getType()).isEqualTo(NumberType.LONG);
+        assertThat(longs.getLongs()).containsExactly(1, 2147483648L, 3);
+        assertThat(longs.getInts()).isNull();
+
+        NumberColumn doubles = parser.parse(Arrays.asList("1", "2147483648", "0.5", "7", "1.5f"));
+        assertThat(doubles.getType()).isEqualTo(NumberType.DOUBLE);
+        assertThat(doubles.getDoubles()).containsExactly(1, 2147483648.0, 0.5, 7, 1.5);
+        assertThat(doubles.getNumber(3)).isEqualTo(7.0);
+    }
+
+    @Test
+    void keep_big_number_in_side_array() {
+        NumberColumn column = parser.parse("1,123456789012345678901234567890,1e400,2", 0, 40, ',');
+
+        assertThat(column.getType()).isEqualTo(NumberType.INTEGER);
+        assertThat(column.isBigNumber(0)).isFalse();
+        assertThat(column.isBigNumber(1)).isTrue();
+        assertThat(column.getNumber(1)).isEqualTo(new BigInteger("123456789012345678901234567890"));
+        assertThat(column.getNumber(2)).isEqualTo(new BigDecimal("1e400"));
+        assertThat(column.getDouble(1)).isEqualTo(1.2345678901234568e29);
+        assertThat(column.getLong(3)).isEqualTo(2);
+        assertThat(column.getInts()).containsExactly(1, 0, 0, 2);
+    }
+
+    @Test
+    void mark_null_and_invalid_cells() {
+        NumberColumn column = parser.parse(Arrays.asList("1", null, "x", "128y", "", "5"));
+
+        assertThat(column.size()).isEqualTo(6);
+        assertThat(column.getInvalidCount()).isEqualTo(4);
+        assertThat(column.isValid(0)).isTrue();
+        assertThat(column.isValid(1)).isFalse();
+        assertThat(column.isValid(3)).isFalse();
+        assertThat(column.getNumber(2)).isNull();
+        assertThat(column.getInts()).containsExactly(1, 0, 0, 0, 0, 5);
+        assertThat(parser.parse(",1,", 0, 3, ',').getInvalidCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.leeonky.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NumberParserCacheTest {
+
+    @Test
+    void return_shared_instance_on_hit() {
+        NumberParserCache cache = new NumberParserCache(new NumberParser(), 16);
+
+        Number number = cache.parse("1024");
+        assertThat(number).isEqualTo(1024);
+        assertThat(cache.parse(new String("1024"))).isSameAs(number);
+        assertThat(cache.parse("[1024]", 1, 5)).isSameAs(number);
+        assertThat(cache.parse(new StringBuilder("1024"), 0, 4)).isSameAs(number);
+        assertThat(cache.parse("1024L")).isEqualTo(1024L);
+        assertThat(cache.parse("1.50bd")).isEqualTo(new BigDecimal("1.50"));
+        assertThat(cache.getHitCount()).isEqualTo(3);
+        assertThat(cache.getMissCount()).isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    void do_not_cache_not_number_or_long_literal() {
+        NumberParserCache cache = new NumberParserCache(new NumberParser(), 16);
+        String huge = String.join("", Collections.nCopies(100, "9"));
+
+        assertThat(cache.parse((String) null)).isNull();
+        assertThat(cache.parse("1x")).isNull();
+        assertThat(cache.parse(huge)).isEqualTo(new BigInteger(huge));
+        assertThat(cache.parse(huge)).isNotSameAs(cache.parse(huge));
+        assertThat(cache.size()).isZero();
+        assertThrows(NumberOverflowException.class, () -> cache.parse("128y"));
+        assertThrows(IndexOutOfBoundsException.class, () -> cache.parse("1", 0, 2));
+    }
+
+    @Test
+    void bounded_with_eviction() {
+        NumberParserCache cache = new NumberParserCache(new NumberParser(), 100);
+
+        assertThat(cache.capacity()).isLessThanOrEqualTo(100);
+        for (int i = 0; i < 1000; i++)
+            assertThat(cache.parse(String.valueOf(i))).isEqualTo(i);
+        assertThat(cache.size()).isLessThanOrEqualTo(cache.capacity());
+        assertThat(cache.getMissCount()).isEqualTo(1000);
+        assertThat(cache.getEvictionCount()).isEqualTo(1000 - cache.size());
+        assertThat(new NumberParserCache(new NumberParser(), 1).capacity()).isEqualTo(1);
+        assertThrows(IllegalArgumentException.class, () -> new NumberParserCache(new NumberParser(), 0));
+    }
+
+    @Test
+    void keep_recently_used_literal() {
+        NumberParserCache cache = new NumberParserCache(new NumberParser(), 4);
+        Number hot = cache.parse("0");
+
+        for (int i = 1; i < 100; i++) {
+            assertThat(cache.parse("0")).isSameAs(hot);
+            cache.parse(String.valueOf(i));
+        }
+    }
+
+    @Test
+    void share_between_threads() throws Exception {
+        NumberParserCache cache = new NumberParserCache(new NumberParser(), 64);
+        AtomicLong failures = new AtomicLong();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int seed = t;
+            threads[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 10000; i++) {
+                    int value = random.nextInt(200);
+                    if (!cache.parse(value + ".5").equals(value + 0.5))
+                        failures.incrementAndGet();
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+        assertThat(failures).hasValue(0);
+        assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo(40000);
+    }
+}
@@ -2,10 +2,20 @@ package com.github.leeonky.util;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -331,10 +341,25 @@ class NumberParserTest {
                 assertParse("100000000000000000_00_05", new BigInteger("1000000000000000000005"));
             }
 
+            @Test
+            void parse_huge_big_int() {
+                StringBuilder digits = new StringBuilder();
+                Random random = new Random(0);
+                for (int i = 0; i < 5000; i++)
+                    digits.append(random.nextInt(10));
+                String code = "9" + digits;
+                assertParse(code, new BigInteger(code));
+                assertParse("-" + code + "bi", new BigInteger("-" + code));
+                String zeros = "1" + String.join("", Collections.nCopies(1000, "0"));
+                assertParse(zeros, BigInteger.TEN.pow(1000));
+                assertParse(zeros + "1", BigInteger.TEN.pow(1001).add(BigInteger.ONE));
+            }
+
             @Test
             void negative() {
                 assertParse("-10000000000000000005", new BigInteger("-10000000000000000005"));
                 assertParse("-1000000000000000_00_05", new BigInteger("-10000000000000000005"));
+                assertParse("-92233720368547758080", new BigInteger("-92233720368547758080"));
             }
 
             @Test
@@ -352,12 +377,22 @@ class NumberParserTest {
                 assertParse("0x80000000000000001", new BigInteger("80000000000000001", 16));
                 assertParse("0x800000000000000012", new BigInteger("800000000000000012", 16));
                 assertParse("0x800000000000_000_012", new BigInteger("800000000000000012", 16));
+                assertParse("0xffffffffffffffff", new BigInteger("ffffffffffffffff", 16));
+                assertParse("0xda39a3ee5e6b4b0d3255bfef95601890afd80709",
+                        new BigInteger("da39a3ee5e6b4b0d3255bfef95601890afd80709", 16));
+                assertParse("0x0000000000000000000000001", 1);
+                assertParse("0x1bi", BigInteger.ONE);
+                assertParse("0xffffffffffffffffffbi", new BigInteger("ffffffffffffffffff", 16));
+                assertParseOverflow("0xffffffffffffffffffl");
+                assertParseOverflow("0xffffffffffffffffffy");
             }
 
             @Test
             void negative() {
                 assertParse("-0x10000000000000000005", new BigInteger("-10000000000000000005", 16));
                 assertParse("-0x1000000000000000_00_05", new BigInteger("-10000000000000000005", 16));
+                assertParse("-0x8000000000000001", new BigInteger("-8000000000000001", 16));
+                assertParse("-0x80000000000000000", new BigInteger("-80000000000000000", 16));
             }
 
             @Test
@@ -374,6 +409,10 @@ class NumberParserTest {
             void parse_big_integer() {
                 assertParse("0b1000_0000_0000_0000_0000_0000_0000_0000_0000_0000_0000_0000_0000_0000_0000_0000_0000", new BigInteger("80000000000000000", 16));
                 assertParse("-0b1000_0000_0000_0000_0000_0000_0000_0000_0000_0000_0000_0000_0000_0000_0000_0001_0000", new BigInteger("-80000000000000010", 16));
+                assertParse("0b1111111111111111111111111111111111111111111111111111111111111111",
+                        new BigInteger("ffffffffffffffff", 16));
+                assertParse("0b1_0000000000000000000000000000000000000000000000000000000000000000bi",
+                        new BigInteger("10000000000000000", 16));
             }
         }
 
@@ -384,6 +423,8 @@ class NumberParserTest {
             void parse_big_int() {
                 assertParse("01000000000000000000_0000", new BigInteger("9223372036854775808").multiply(BigInteger.valueOf(8)));
                 assertParse("-01000000000000000000_0010", new BigInteger("-9223372036854775809").multiply(BigInteger.valueOf(8)));
+                assertParse("03777777777777777777777", new BigInteger("3777777777777777777777", 8));
+                assertParse("01234567012345670123456701", new BigInteger("1234567012345670123456701", 8));
             }
 
             @Test
@@ -588,6 +629,18 @@ class NumberParserTest {
             assertParse("1" + String.join("", Collections.nCopies(400, "0")) + ".0", new BigDecimal("1.0E400"));
             assertParse("-1" + String.join("", Collections.nCopies(400, "0")) + ".0", new BigDecimal("-1.0E400"));
         }
+
+        @Test
+        void keep_all_digits_and_scale_of_long_decimal() {
+            assertThat(new NumberParser().parse("1234567890.12345678901234567890bd"))
+                    .isEqualTo(new BigDecimal("1234567890.12345678901234567890"));
+            assertThat(new NumberParser().parse("-12345678901234567890.1234_5678e-5bd"))
+                    .isEqualTo(new BigDecimal("-12345678901234567890.12345678e-5"));
+            assertThat(new NumberParser().parse("1234567890123456789012345678901234567890e+-3bd"))
+                    .isEqualTo(new BigDecimal("1234567890123456789012345678901234567890e-3"));
+            assertThat(new NumberParser().parse("0.000000000000000000001234567890123456789012345e400"))
+                    .isEqualTo(new BigDecimal("0.000000000000000000001234567890123456789012345e400"));
+        }
     }
 
     @Nested
@@ -884,15 +937,855 @@ class NumberParserTest {
         }
     }
 
+    @Nested
+    class LongDecimalDigits {
+
+        @Test
+        void parse_in_eight_digit_chunks() {
+            assertParse("12345678", 12345678);
+            assertParse("-12345678", -12345678);
+            assertParse("1234567890123456", 1234567890123456L);
+            assertParse("12345678901234567", 12345678901234567L);
+            assertParse("9223372036854775807", 9223372036854775807L);
+            assertParse("-9223372036854775808", -9223372036854775808L);
+            assertParse("92233720368547758070", new BigInteger("92233720368547758070"));
+            assertParse("12345678z", null);
+            assertParseOverflow("12345678s");
+            assertParse("12345678bi", new BigInteger("12345678"));
+            assertParse("12345678l", 12345678L);
+            assertParse("12345678.5", 12345678.5);
+            assertParse("1234567812345678.5", 1234567812345678.5);
+            assertParse("12345678e2", 12345678e2);
+        }
+
+        @Test
+        void fallback_to_char_by_char_parse() {
+            assertParse("1234_5678", 12345678);
+            assertParse("1234567_8", 12345678);
+            assertParse("12345678_", null);
+            assertParse("1234567.5", 1234567.5);
+            assertParse("1234567x", null);
+            assertParse("1234567/", null);
+            assertThat(new NumberParser().parse("1234567\u0138")).isNull();
+            assertThat(new NumberParser().parse("\u0131234567")).isNull();
+        }
+    }
+
+    @Nested
+    class ParseAs {
+
+        @Test
+        void parse_as_target_type() {
+            assertThat(new NumberParser().parseAs("1", Byte.class)).isEqualTo((byte) 1);
+            assertThat(new NumberParser().parseAs("-1", short.class)).isEqualTo((short) -1);
+            assertThat(new NumberParser().parseAs("0x7fffffff", Integer.class)).isEqualTo(Integer.MAX_VALUE);
+            assertThat(new NumberParser().parseAs("1", Long.class)).isEqualTo(1L);
+            assertThat(new NumberParser().parseAs("12345678901", long.class)).isEqualTo(12345678901L);
+            assertThat(new NumberParser().parseAs("1", BigInteger.class)).isEqualTo(BigInteger.ONE);
+            assertThat(new NumberParser().parseAs("1.5", Float.class)).isEqualTo(1.5f);
+            assertThat(new NumberParser().parseAs("-0", Double.class)).isEqualTo(-0.0);
+            assertThat(new NumberParser().parseAs("1e10", double.class)).isEqualTo(1e10);
+            assertThat(new NumberParser().parseAs("123.450", BigDecimal.class)).isEqualTo(new BigDecimal("123.450"));
+            assertThat(new NumberParser().parseAs("12345678901234567890", BigDecimal.class))
+                    .isEqualTo(new BigDecimal("12345678901234567890"));
+            assertThat(new NumberParser().parseAs("[42]", 1, 3, Long.class)).isEqualTo(42L);
+        }
+
+        @Test
+        void same_postfix_is_allowed() {
+            assertThat(new NumberParser().parseAs("1l", Long.class)).isEqualTo(1L);
+            assertThat(new NumberParser().parseAs("1.5bd", BigDecimal.class)).isEqualTo(new BigDecimal("1.5"));
+            assertThat(new NumberParser().parseAs("1y", Long.class)).isNull();
+            assertThat(new NumberParser().parseAs("1d", Float.class)).isNull();
+        }
+
+        @Test
+        void overflow_as_postfix() {
+            assertThrows(NumberOverflowException.class, () -> new NumberParser().parseAs("128", Byte.class));
+            assertThrows(NumberOverflowException.class, () -> new NumberParser().parseAs("2147483648", int.class));
+            assertThrows(NumberOverflowException.class,
+                    () -> new NumberParser().parseAs("9223372036854775808", Long.class));
+            assertThrows(NumberOverflowException.class, () -> new NumberParser().parseAs("1.5", Long.class));
+            assertThrows(NumberOverflowException.class, () -> new NumberParser().parseAs("1e39", Float.class));
+        }
+
+        @Test
+        void parse_as_to_result() {
+            NumberResult result = new NumberResult();
+
+            assertThat(new NumberParser().parseAs("42", 0, 2, long.class, result)).isTrue();
+            assertThat(result.getType()).isEqualTo(NumberType.LONG);
+            assertThat(result.longValue()).isEqualTo(42L);
+
+            assertThat(new NumberParser().parseAs("128", 0, 3, byte.class, result)).isFalse();
+            assertThat(result.getStatus()).isEqualTo(NumberStatus.OVERFLOW);
+        }
+
+        @Test
+        void not_number() {
+            assertThat(new NumberParser().parseAs(null, Long.class)).isNull();
+            assertThat(new NumberParser().parseAs("1x", Long.class)).isNull();
+            assertThrows(IllegalArgumentException.class,
+                    () -> new NumberParser().parseAs("1", AtomicLong.class));
+        }
+    }
+
+    @Nested
+    class Classify {
+
+        @Test
+        void classify_as_parsed_type() {
+            assertClassify("1", NumberType.INTEGER);
+            assertClassify("-2147483649", NumberType.LONG);
+            assertClassify("9223372036854775808", NumberType.BIG_INTEGER);
+            assertClassify("0xffffffffffffffffff", NumberType.BIG_INTEGER);
+            assertClassify("1.5", NumberType.DOUBLE);
+            assertClassify("1e400", NumberType.BIG_DECIMAL);
+            assertClassify("1y", NumberType.BYTE);
+            assertClassify("1s", NumberType.SHORT);
+            assertClassify("1l", NumberType.LONG);
+            assertClassify("1f", NumberType.FLOAT);
+            assertClassify("1d", NumberType.DOUBLE);
+            assertClassify("1bi", NumberType.BIG_INTEGER);
+            assertClassify("1bd", NumberType.BIG_DECIMAL);
+            assertClassify("123456789012345678901234567890bd", NumberType.BIG_DECIMAL);
+            assertClassify("123456789012345678901234567890.5bd", NumberType.BIG_DECIMAL);
+            assertClassify("123456789012345678901234567890f", NumberType.FLOAT);
+        }
+
+        @Test
+        void not_number_or_overflow() {
+            assertClassify(null, null);
+            assertClassify("", null);
+            assertClassify("1_", null);
+            assertClassify("0x", null);
+            assertClassify("128y", null);
+            assertClassify("9223372036854775808l", null);
+            assertClassify("0xffffffffffffffffffs", null);
+            assertClassify("1e39f", null);
+            assertClassify(String.join("", Collections.nCopies(400, "9")) + "d", null);
+        }
+
+        @Test
+        void classify_with_status() {
+            NumberResult result = new NumberResult();
+
+            assertThat(new NumberParser().classify("128y", 0, 4, result)).isFalse();
+            assertThat(result.getStatus()).isEqualTo(NumberStatus.OVERFLOW);
+
+            assertThat(new NumberParser().withMaxBitLength(64).classify("0x1_0000_0000_0000_0000", 0, 23, result))
+                    .isFalse();
+            assertThat(result.getStatus()).isEqualTo(NumberStatus.BIT_LENGTH_TOO_LARGE);
+
+            assertThat(new NumberParser().withMaxBitLength(64).classify("18446744073709551616", 0, 20, result))
+                    .isFalse();
+            assertThat(result.getStatus()).isEqualTo(NumberStatus.BIT_LENGTH_TOO_LARGE);
+
+            assertThat(new NumberParser().withMaxBitLength(64).classify("18446744073709551615", 0, 20, result))
+                    .isTrue();
+            assertThat(result.getType()).isEqualTo(NumberType.BIG_INTEGER);
+        }
+
+        @Test
+        void classify_range() {
+            assertThat(new NumberParser().classify("[1.5]", 1, 4)).isEqualTo(NumberType.DOUBLE);
+            assertThat(new NumberParser().isNumber("[1.5]", 1, 4)).isTrue();
+            assertThat(new NumberParser().isNumber("[1.5]", 0, 4)).isFalse();
+        }
+
+        private void assertClassify(String code, NumberType type) {
+            assertThat(new NumberParser().classify(code)).isEqualTo(type);
+            assertThat(new NumberParser().isNumber(code)).isEqualTo(type != null);
+        }
+    }
+
+    @Nested
+    class Lazy {
+
+        @Test
+        void classify_without_materializing() {
+            LazyNumber number = new NumberParser().parseLazy("123456789012345678901234567890");
+
+            assertThat(number.getType()).isEqualTo(NumberType.BIG_INTEGER);
+            assertThat(number.isMaterialized()).isFalse();
+
+            assertThat(number.materialize()).isEqualTo(new BigInteger("123456789012345678901234567890"));
+            assertThat(number.isMaterialized()).isTrue();
+            assertThat(number.materialize()).isSameAs(number.materialize());
+        }
+
+        @Test
+        void materialize_on_first_access() {
+            assertThat(new NumberParser().parseLazy("1").intValue()).isEqualTo(1);
+            assertThat(new NumberParser().parseLazy("2147483648").longValue()).isEqualTo(2147483648L);
+            assertThat(new NumberParser().parseLazy("1.5f").floatValue()).isEqualTo(1.5f);
+            assertThat(new NumberParser().parseLazy("1.5").doubleValue()).isEqualTo(1.5);
+            assertThat(new NumberParser().parseLazy("-1y").byteValue()).isEqualTo((byte) -1);
+            assertThat(new NumberParser().parseLazy("1e400")).hasToString(new BigDecimal("1e400").toString());
+        }
+
+        @Test
+        void equals_and_hash_code_as_eager_value() {
+            for (String code : new String[]{"1", "1l", "1y", "1s", "1.5", "1.5f", "1bi", "1.50bd", "0x80000000"}) {
+                LazyNumber number = new NumberParser().parseLazy(code);
+                Number eager = new NumberParser().parse(code);
+
+                assertThat(number.getType()).isEqualTo(new NumberParser().classify(code));
+                assertThat(number).isEqualTo(eager);
+                assertThat(number).isEqualTo(new NumberParser().parseLazy(code));
+                assertThat(number.hashCode()).isEqualTo(eager.hashCode());
+                assertThat(number.materialize()).isInstanceOf(eager.getClass());
+            }
+            assertThat(new NumberParser().parseLazy("1")).isNotEqualTo(1L);
+            assertThat(new NumberParser().parseLazy("1.50bd")).isNotEqualTo(new BigDecimal("1.5"));
+        }
+
+        @Test
+        void not_number_or_overflow() {
+            assertThat(new NumberParser().parseLazy((String) null)).isNull();
+            assertThat(new NumberParser().parseLazy("1x")).isNull();
+            assertThrows(NumberOverflowException.class, () -> new NumberParser().parseLazy("128y"));
+            assertThrows(NumberLimitExceededException.class,
+                    () -> new NumberParser().withMaxDigits(2).parseLazy("123"));
+        }
+
+        @Test
+        void serialize_as_eager_value() throws Exception {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+                output.writeObject(new NumberParser().parseLazy("[1.5]", 1, 4));
+            }
+            try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                assertThat(input.readObject()).isEqualTo(1.5);
+            }
+        }
+    }
+
+    @Nested
+    class CustomPostfix {
+        private final NumberParser parser = new NumberParser()
+                .withPostfix(new PrimitiveIntegerPostfix("u") {
+                    @Override
+                    public Number convert(long value) {
+                        return value < 0 || value > 0xFFFFFFFFL ? null : value;
+                    }
+                })
+                .withPostfix(new StringNumberPostfix("k") {
+                    @Override
+                    public Number convert(String number) {
+                        return new BigDecimal(number).multiply(BigDecimal.valueOf(1000));
+                    }
+                })
+                .withPostfix(new StringNumberPostfix("Mi") {
+                    @Override
+                    public Number convert(String number) {
+                        return new BigInteger(number).shiftLeft(20);
+                    }
+                });
+
+        @Test
+        void primitive_integer_postfix() {
+            assertThat(parser.parse("4294967295u")).isEqualTo(4294967295L);
+            assertThat(parser.parse("0xFFFF_FFFFu")).isEqualTo(4294967295L);
+            assertThat(parser.parse("0b11u")).isEqualTo(3L);
+            assertThrows(NumberOverflowException.class, () -> parser.parse("4294967296u"));
+            assertThrows(NumberOverflowException.class, () -> parser.parse("-1u"));
+            assertThrows(NumberOverflowException.class, () -> parser.parse("1.5u"));
+            assertThrows(NumberOverflowException.class, () -> parser.parse("99999999999999999999u"));
+            assertThat(parser.parse("u")).isNull();
+            assertThat(parser.parse("-u")).isNull();
+            assertThat(parser.parse("1xu")).isNull();
+        }
+
+        @Test
+        void string_number_postfix() {
+            assertThat(parser.parse("1.5k")).isEqualTo(new BigDecimal("1500.0"));
+            assertThat(parser.parse("1_000k")).isEqualTo(new BigDecimal("1000000"));
+            assertThat(parser.parse("2Mi")).isEqualTo(BigInteger.valueOf(2 << 20));
+            assertThat(parser.parse("k")).isNull();
+            assertThat(parser.parse("1..5k")).isNull();
+            assertThat(parser.classify("1.5k")).isEqualTo(NumberType.BIG_DECIMAL);
+            assertThat(parser.parseLazy("1.5k")).isEqualTo(new BigDecimal("1500.0"));
+        }
+
+        @Test
+        void postfix_should_not_take_digit_of_radix() {
+            NumberParser parser = new NumberParser().withPostfix(new PrimitiveIntegerPostfix("e") {
+                @Override
+                public Number convert(long value) {
+                    return value;
+                }
+            });
+
+            assertThat(parser.parse("0x1e")).isEqualTo(0x1e);
+            assertThat(parser.parse("0x1bd")).isEqualTo(0x1bd);
+            assertThat(parser.parse("07e")).isEqualTo(7L);
+        }
+
+        @Test
+        void built_in_postfix_still_work_and_can_be_replaced() {
+            assertThat(parser.parse("1y")).isEqualTo((byte) 1);
+            assertThat(parser.parse("1bi")).isEqualTo(BigInteger.ONE);
+            assertThat(parser.parse("1.5bd")).isEqualTo(new BigDecimal("1.5"));
+            assertThat(parser.parse("1d")).isEqualTo(1.0);
+            assertThat(new NumberParser().parse("1u")).isNull();
+            assertThat(new NumberParser().withPostfix(new PrimitiveIntegerPostfix("y") {
+                @Override
+                public Number convert(long value) {
+                    return value * 2;
+                }
+            }).parse("128y")).isEqualTo(256L);
+        }
+
+        @Test
+        void custom_postfix_is_not_a_target_type() {
+            assertThat(parser.parseAs("1u", Long.class)).isNull();
+        }
+
+        @Test
+        void invalid_postfix() {
+            assertThrows(IllegalArgumentException.class, () -> new StringNumberPostfix("") {
+                @Override
+                public Number convert(String number) {
+                    return null;
+                }
+            });
+            for (String postfix : new String[]{"abc", "1", "_", ".", "-", "a b", "\u00b5"})
+                assertThrows(IllegalArgumentException.class, () -> new PrimitiveIntegerPostfix(postfix) {
+                    @Override
+                    public Number convert(long value) {
+                        return value;
+                    }
+                });
+        }
+    }
+
+    @Nested
+    class Dialect {
+
+        @Test
+        void default_dialect_is_full_grammar() {
+            NumberParser parser = NumberParser.builder().build();
+
+            assertThat(parser.parse("1_000")).isEqualTo(1000);
+            assertThat(parser.parse("0x10")).isEqualTo(16);
+            assertThat(parser.parse("010")).isEqualTo(8);
+            assertThat(parser.parse("0b10")).isEqualTo(2);
+            assertThat(parser.parse("1y")).isEqualTo((byte) 1);
+            assertThat(parser.parse("1e400")).isEqualTo(new BigDecimal("1e400"));
+        }
+
+        @Test
+        void without_underscore() {
+            NumberParser parser = NumberParser.builder().underscore(false).build();
+
+            assertThat(parser.parse("1000")).isEqualTo(1000);
+            assertThat(parser.parse("1_000")).isNull();
+            assertThat(parser.parse("1_000_000_000_000")).isNull();
+            assertThat(parser.parse("1.0_1")).isNull();
+            assertThat(parser.parse("1e1_0")).isNull();
+            assertThat(parser.parse("0x1_0")).isNull();
+            assertThat(parser.parse("0_7")).isNull();
+        }
+
+        @Test
+        void without_radix() {
+            assertThat(NumberParser.builder().hexadecimal(false).build().parse("0x10")).isNull();
+            assertThat(NumberParser.builder().hexadecimal(false).build().parse("0b10")).isEqualTo(2);
+            assertThat(NumberParser.builder().binary(false).build().parse("0b10")).isNull();
+            assertThat(NumberParser.builder().binary(false).build().parse("0x10")).isEqualTo(16);
+            assertThat(NumberParser.builder().binary(false).build().parse("0b1bi")).isNull();
+            assertThat(NumberParser.builder().octal(false).build().parse("010")).isEqualTo(10);
+            assertThat(NumberParser.builder().octal(false).build().parse("0_9")).isEqualTo(9);
+            assertThat(NumberParser.builder().octal(false).build().parse("0x10")).isEqualTo(16);
+            assertThat(NumberParser.builder().hexadecimal(false).octal(false).binary(false).build().parse("09.5"))
+                    .isEqualTo(9.5);
+        }
+
+        @Test
+        void leading_zeros_without_octal_do_not_count_for_bit_length() {
+            NumberParser parser = NumberParser.builder().octal(false).maxBitLength(70).build();
+            String zeros = String.join("", Collections.nCopies(30, "0"));
+
+            assertThat(parser.parse(zeros + "10000000000000000000")).isEqualTo(new BigInteger("10000000000000000000"));
+            assertThat(parser.classify(zeros + "10000000000000000000")).isEqualTo(NumberType.BIG_INTEGER);
+            assertThat(parser.parse("-" + zeros + "10000000000000000000bi"))
+                    .isEqualTo(new BigInteger("-10000000000000000000"));
+            assertThrows(NumberLimitExceededException.class, () -> parser.parse(zeros + "1" + zeros));
+        }
+
+        @Test
+        void without_postfix() {
+            NumberParser parser = NumberParser.builder().postfix(false).build();
+
+            assertThat(parser.parse("1y")).isNull();
+            assertThat(parser.parse("1.5f")).isNull();
+            assertThat(parser.parse("1bi")).isNull();
+            assertThat(parser.parse("0x1d")).isEqualTo(0x1d);
+            assertThat(parser.parseAs("1", Long.class)).isEqualTo(1L);
+            assertThat(parser.withPostfix(new PrimitiveIntegerPostfix("u") {
+                @Override
+                public Number convert(long value) {
+                    return value;
+                }
+            }).parse("1u")).isNull();
+        }
+
+        @Test
+        void without_big_decimal_fallback() {
+            NumberParser parser = NumberParser.builder().bigDecimalFallback(false).build();
+
+            assertThat(parser.parse("1e308")).isEqualTo(1e308);
+            assertThat(assertThrows(NumberOverflowException.class, () -> parser.parse("1e400")))
+                    .hasMessage("Number [1e400] is out of double range and the BigDecimal fallback is disabled");
+            NumberResult result = new NumberResult();
+            assertThat(parser.parse("-1e400", result)).isFalse();
+            assertThat(result.getStatus()).isEqualTo(NumberStatus.OUT_OF_DOUBLE_RANGE);
+            assertThat(assertThrows(NumberOverflowException.class, () -> parser.parse("1e400d")))
+                    .hasMessage("Cannon save [1e400d] with the given postfix type");
+            assertThat(parser.parse("1e400bd")).isEqualTo(new BigDecimal("1e400"));
+            assertThat(parser.parse("123456789012345678901234567890"))
+                    .isEqualTo(new BigInteger("123456789012345678901234567890"));
+            assertThat(parser.classify("1e400")).isNull();
+        }
+
+        @Test
+        void reuse_scratch_buffer() throws Exception {
+            String[] codes = {"1.00000000000000011102230246251565404236316680908203125",
+                    "1.000000059604644775390625f", "1.5e-2147483640bd", "1_0.5e-2147483640bd"};
+            for (int size : new int[]{0, 8, 1024}) {
+                NumberParser parser = NumberParser.builder().scratchBufferSize(size).build();
+                Thread[] threads = new Thread[4];
+                AtomicLong failures = new AtomicLong();
+                for (int t = 0; t < threads.length; t++) {
+                    threads[t] = new Thread(() -> {
+                        for (int i = 0; i < 1000; i++)
+                            for (String code : codes)
+                                if (!parser.parse(code).equals(new NumberParser().parse(code)))
+                                    failures.incrementAndGet();
+                    });
+                    threads[t].start();
+                }
+                for (Thread thread : threads)
+                    thread.join();
+                assertThat(failures).hasValue(0);
+            }
+            assertThat(NumberParser.builder().scratchBufferSize(8).build().parse("1.5e-2147483640bd"))
+                    .isEqualTo(new BigDecimal("1.5e-2147483640"));
+            assertThrows(IllegalArgumentException.class, () -> NumberParser.builder().scratchBufferSize(-1).build());
+        }
+
+        @Test
+        void keep_dialect_when_change_limits() {
+            NumberParser parser = NumberParser.builder().octal(false).postfix(new PrimitiveIntegerPostfix("u") {
+                @Override
+                public Number convert(long value) {
+                    return value;
+                }
+            }).build().withMaxDigits(3);
+
+            assertThat(parser.parse("010")).isEqualTo(10);
+            assertThat(parser.parse("10u")).isEqualTo(10L);
+            assertThat(parser.parse("0100")).isEqualTo(100);
+            assertThrows(NumberLimitExceededException.class, () -> parser.parse("1000"));
+            assertThrows(IllegalArgumentException.class, () -> NumberParser.builder().maxExponent(0).build());
+        }
+    }
+
+    @Nested
+    class Limits {
+
+        @Test
+        void max_digits() {
+            NumberParser parser = new NumberParser().withMaxDigits(10);
+
+            assertThat(parser.parse("1234567890")).isEqualTo(1234567890);
+            assertThat(parser.parse("-1_234_567_890")).isEqualTo(-1234567890);
+            assertThat(parser.parse("1234567.890e300")).isEqualTo(1234567.890e300);
+            assertThat(parser.parse("0x12345678_90")).isEqualTo(0x1234567890L);
+            assertThat(assertThrows(NumberLimitExceededException.class, () -> parser.parse("12345678901")))
+                    .hasMessage("Number [12345678901] exceeds the max digits 10");
+            assertThrows(NumberLimitExceededException.class, () -> parser.parse("1234567890.1"));
+            assertThrows(NumberLimitExceededException.class, () -> parser.parse("0x12345678901"));
+            assertThrows(NumberLimitExceededException.class, () -> parser.parse("12345678901bd"));
+            assertThat(assertThrows(NumberLimitExceededException.class,
+                    () -> parser.parse(String.join("", Collections.nCopies(1000000, "9")))))
+                    .hasMessage("Number [99999999999999999999999999999999...] exceeds the max digits 10");
+        }
+
+        @Test
+        void max_digits_count_significant_digits_only() {
+            NumberParser parser = NumberParser.builder().maxDigits(5).octal(false).build();
+
+            assertThat(parser.parse("0.000001")).isEqualTo(0.000001);
+            assertThat(parser.parse("0000001")).isEqualTo(1);
+            assertThat(parser.parse("-0.000012345")).isEqualTo(-0.000012345);
+            assertThat(parser.parse("0x0000000000fffff")).isEqualTo(0xfffff);
+            assertThrows(NumberLimitExceededException.class, () -> parser.parse("0.000123456"));
+            assertThrows(NumberLimitExceededException.class, () -> parser.parse("00100000"));
+        }
+
+        @Test
+        void no_exponent_limit_by_default() {
+            NumberParser parser = new NumberParser();
+
+            assertThat(parser.parse("6e-9999999999")).isEqualTo(0.0);
+            assertThat(parser.parse("0e9999999999")).isEqualTo(0.0);
+            assertThrows(NumberOverflowException.class, () -> parser.parse("1e9999999999y"));
+        }
+
+        @Test
+        void max_exponent() {
+            NumberParser parser = new NumberParser().withMaxExponent(100);
+
+            assertThat(parser.parse("1e100")).isEqualTo(1e100);
+            assertThat(parser.parse("1e-100")).isEqualTo(1e-100);
+            assertThrows(NumberLimitExceededException.class, () -> parser.parse("1e101"));
+            assertThrows(NumberLimitExceededException.class, () -> parser.parse("1.5e-101"));
+            assertThat(assertThrows(NumberLimitExceededException.class, () -> parser.parse("1e999999999bd")))
+                    .hasMessage("Number [1e999999999bd] exceeds the max exponent 100");
+        }
+
+        @Test
+        void max_big_integer_bit_length() {
+            NumberParser parser = new NumberParser().withMaxBitLength(64);
+
+            assertThat(parser.parse("18446744073709551615")).isEqualTo(new BigInteger("18446744073709551615"));
+            assertThat(parser.parse("0xffff_ffff_ffff_ffff")).isEqualTo(new BigInteger("ffffffffffffffff", 16));
+            assertThat(parser.parse("-18446744073709551615bi")).isEqualTo(new BigInteger("-18446744073709551615"));
+            assertThrows(NumberLimitExceededException.class, () -> parser.parse("18446744073709551616"));
+            assertThrows(NumberLimitExceededException.class, () -> parser.parse("0x1_0000_0000_0000_0000"));
+            assertThrows(NumberLimitExceededException.class, () -> parser.parse("100000000000000000000000000d"));
+            assertThrows(NumberLimitExceededException.class,
+                    () -> parser.parse(String.join("", Collections.nCopies(1000000, "9"))));
+            assertThat(parser.parse("100000000000000000000000000.5")).isEqualTo(100000000000000000000000000.5);
+        }
+
+        @Test
+        void limits_should_be_positive() {
+            assertThrows(IllegalArgumentException.class, () -> new NumberParser().withMaxDigits(0));
+            assertThrows(IllegalArgumentException.class, () -> new NumberParser().withMaxExponent(-1));
+            assertThrows(IllegalArgumentException.class, () -> new NumberParser().withMaxBitLength(0));
+        }
+
+        @Test
+        void limits_do_not_change_origin_parser() {
+            NumberParser parser = new NumberParser();
+            parser.withMaxDigits(1);
+
+            assertThat(parser.parse("12345")).isEqualTo(12345);
+        }
+    }
+
+    @Nested
+    class CorrectlyRounded {
+
+        @Test
+        void hard_double_cases() {
+            assertParse("9007199254740993.0", 9007199254740992.0);
+            assertParse("9007199254740995.0", 9007199254740996.0);
+            assertParse("2.2250738585072011e-308", 2.2250738585072011e-308);
+            assertParse("2.2250738585072012e-308", 2.2250738585072012e-308);
+            assertParse("4.9e-324", 4.9e-324);
+            assertParse("1e-400", 0.0);
+            assertParse("-1e-400", -0.0);
+            assertParse("1.7976931348623157e308", 1.7976931348623157e308);
+            assertParse("1.7976931348623158e308", 1.7976931348623157e308);
+            assertParse("1.7976931348623159e308", new BigDecimal("1.7976931348623159e308"));
+            assertParse("0.30000000000000004", 0.30000000000000004);
+            assertParse("123456789012345678901234567890.123456789", 123456789012345678901234567890.123456789);
+            assertParse("1.00000000000000011102230246251565404236316680908203125", 1.0);
+            assertParse("1.00000000000000011102230246251565404236316680908203126", 1.0000000000000002);
+        }
+
+        @Test
+        void hard_float_cases() {
+            assertParse("3.4028235e38f", 3.4028235e38f);
+            assertParse("3.40282356e38f", 3.4028235e38f);
+            assertParseOverflow("3.4028236e38f");
+            assertParse("1.4e-45f", 1.4e-45f);
+            assertParse("7.038531e-26f", 7.038531e-26f);
+            assertParse("1.00000005960464477539062499f", 1.0f);
+            assertParse("1.000000059604644775390625f", 1.0f);
+            assertParse("1.00000005960464477539062501f", 1.0000001f);
+            assertParse("16777217f", 16777216f);
+            assertParse("16777217.0f", 16777216f);
+            assertParse("9223372036854775807f", 9.223372e18f);
+        }
+
+        @Test
+        void same_as_jdk_for_random_decimals() {
+            Random random = new Random(0);
+            for (int i = 0; i < 20000; i++) {
+                String code = randomDigits(random, 1 + random.nextInt(25)) + "." + randomDigits(random, 1 + random.nextInt(25))
+                        + "E" + (random.nextInt(660) - 330);
+                Number number = new NumberParser().parse(code);
+                if (number instanceof Double)
+                    assertThat(number).isEqualTo(Double.parseDouble(code));
+                String floatCode = (1 + random.nextInt(9)) + randomDigits(random, random.nextInt(10)) + "E" + (random.nextInt(78) - 50);
+                assertThat(new NumberParser().parse(floatCode + "f")).isEqualTo(Float.parseFloat(floatCode));
+            }
+        }
+
+        private String randomDigits(Random random, int length) {
+            StringBuilder stringBuilder = new StringBuilder();
+            for (int i = 0; i < length; i++)
+                stringBuilder.append((char) ('0' + random.nextInt(10)));
+            return stringBuilder.toString();
+        }
+    }
+
+    @Nested
+    class ParseToResult {
+        private final NumberResult result = new NumberResult();
+
+        @Test
+        void primitive_types() {
+            assertResult("1", NumberType.INTEGER, 1);
+            assertResult("-2147483649", NumberType.LONG, -2147483649L);
+            assertResult("0x7fy", NumberType.BYTE, 127);
+            assertResult("-0x8000s", NumberType.SHORT, -32768);
+            assertResult("10l", NumberType.LONG, 10);
+
+            assertThat(new NumberParser().parse("1.5", result)).isTrue();
+            assertThat(result.getType()).isEqualTo(NumberType.DOUBLE);
+            assertThat(result.doubleValue()).isEqualTo(1.5);
+
+            assertThat(new NumberParser().parse("1.5f", result)).isTrue();
+            assertThat(result.getType()).isEqualTo(NumberType.FLOAT);
+            assertThat(result.floatValue()).isEqualTo(1.5f);
+        }
+
+        @Test
+        void big_number_types() {
+            assertThat(new NumberParser().parse("9223372036854775808", result)).isTrue();
+            assertThat(result.getType()).isEqualTo(NumberType.BIG_INTEGER);
+            assertThat(result.toNumber()).isEqualTo(new BigInteger("9223372036854775808"));
+
+            assertThat(new NumberParser().parse("1.5bd", result)).isTrue();
+            assertThat(result.getType()).isEqualTo(NumberType.BIG_DECIMAL);
+            assertThat(result.toNumber()).isEqualTo(new BigDecimal("1.5"));
+        }
+
+        @Test
+        void reuse_result_for_invalid_number() {
+            new NumberParser().parse("1", result);
+
+            assertThat(new NumberParser().parse("1x", result)).isFalse();
+            assertThat(result.isNumber()).isFalse();
+            assertThat(result.getType()).isNull();
+            assertThat(result.toNumber()).isNull();
+
+            assertThat(new NumberParser().parse((String) null, result)).isFalse();
+        }
+
+        @Test
+        void report_overflow_as_status() {
+            for (String code : new String[]{"128y", "-32769s", "9223372036854775808l", "1e39f", "1e309d", "1.5y",
+                    "0x100000000000000000l"}) {
+                assertThat(new NumberParser().parse(code, result)).isFalse();
+                assertThat(result.getStatus()).isEqualTo(NumberStatus.OVERFLOW);
+                assertThat(result.isNumber()).isFalse();
+                assertThat(result.toNumber()).isNull();
+            }
+        }
+
+        @Test
+        void check_status_throws_like_parse() {
+            NumberParser parser = new NumberParser().withMaxDigits(3);
+
+            parser.parse("128y", result);
+            assertThrows(NumberOverflowException.class, () -> parser.checkStatus("128y", 0, 4, result));
+            parser.parse("1234", result);
+            assertThrows(NumberLimitExceededException.class, () -> parser.checkStatus("1234", 0, 4, result));
+            parser.parse("12x", result);
+            parser.checkStatus("12x", 0, 3, result);
+            parser.parse("12", result);
+            parser.checkStatus("12", 0, 2, result);
+        }
+
+        @Test
+        void primitive_values_of_failed_result() {
+            new NumberParser().parse("128y", result);
+
+            assertThat(assertThrows(IllegalStateException.class, result::longValue))
+                    .hasMessage("Result status is OVERFLOW, not a number");
+            assertThrows(IllegalStateException.class, result::intValue);
+            assertThrows(IllegalStateException.class, result::doubleValue);
+            new NumberParser().parse("x", result);
+            assertThat(assertThrows(IllegalStateException.class, result::floatValue))
+                    .hasMessage("Result status is NOT_NUMBER, not a number");
+        }
+
+        @Test
+        void int_value_of_int_results_only() {
+            NumberParser parser = new NumberParser();
+
+            parser.parse("-12y", result);
+            assertThat(result.intValue()).isEqualTo(-12);
+            parser.parse("2147483647", result);
+            assertThat(result.intValue()).isEqualTo(Integer.MAX_VALUE);
+            parser.parse("2147483648", result);
+            assertThat(assertThrows(IllegalStateException.class, result::intValue))
+                    .hasMessage("Result type is LONG, not an int");
+            assertThat(result.longValue()).isEqualTo(2147483648L);
+            parser.parse("1L", result);
+            assertThrows(IllegalStateException.class, result::intValue);
+            parser.parse("1.5", result);
+            assertThat(assertThrows(IllegalStateException.class, result::intValue))
+                    .hasMessage("Result type is DOUBLE, not an int");
+        }
+
+        @Test
+        void report_status() {
+            assertThat(new NumberParser().parse("127y", result)).isTrue();
+            assertThat(result.getStatus()).isEqualTo(NumberStatus.NUMBER);
+
+            new NumberParser().parse("12x", result);
+            assertThat(result.getStatus()).isEqualTo(NumberStatus.NOT_NUMBER);
+
+            new NumberParser().withMaxDigits(3).parse("1234", result);
+            assertThat(result.getStatus()).isEqualTo(NumberStatus.TOO_MANY_DIGITS);
+
+            new NumberParser().withMaxExponent(3).parse("1e4", result);
+            assertThat(result.getStatus()).isEqualTo(NumberStatus.EXPONENT_TOO_LARGE);
+
+            new NumberParser().withMaxBitLength(64).parse("0x1_0000_0000_0000_0000", result);
+            assertThat(result.getStatus()).isEqualTo(NumberStatus.BIT_LENGTH_TOO_LARGE);
+
+            new NumberParser().parse((String) null, result);
+            assertThat(result.getStatus()).isEqualTo(NumberStatus.NOT_NUMBER);
+        }
+
+        @Test
+        void thrown_exceptions_are_stackless() {
+            assertThat(assertThrows(NumberOverflowException.class, () -> new NumberParser().parse("128y"))
+                    .getStackTrace()).isEmpty();
+            assertThat(assertThrows(NumberLimitExceededException.class,
+                    () -> new NumberParser().withMaxDigits(1).parse("12")).getStackTrace()).isEmpty();
+            assertThat(new NumberOverflowException("128y").getStackTrace()).isNotEmpty();
+        }
+
+        private void assertResult(String code, NumberType type, long value) {
+            assertThat(new NumberParser().parse(code, result)).isTrue();
+            assertThat(result.getType()).isEqualTo(type);
+            assertThat(result.longValue()).isEqualTo(value);
+            assertThat(result.toNumber()).isEqualTo(new NumberParser().parse(code));
+        }
+    }
+
+    @Nested
+    class ParseRange {
+
+        @Test
+        void parse_char_sequence_range() {
+            assertThat(new NumberParser().parse(new StringBuilder("[100, 0x1fl, 1.5]"), 1, 4)).isEqualTo(100);
+            assertThat(new NumberParser().parse(new StringBuilder("[100, 0x1fl, 1.5]"), 6, 11)).isEqualTo(0x1fL);
+            assertThat(new NumberParser().parse(CharBuffer.wrap("[100, 0x1fl, 1.5]"), 13, 16)).isEqualTo(1.5);
+        }
+
+        @Test
+        void parse_char_array_range() {
+            char[] chars = "1 10bi 12".toCharArray();
+
+            assertThat(new NumberParser().parse(chars, 2, 4)).isEqualTo(BigInteger.TEN);
+            assertThat(new NumberParser().parse(chars, 7, 2)).isEqualTo(12);
+        }
+
+        @Test
+        void should_not_look_behind_range_start() {
+            assertThat(new NumberParser().parse("1.5", 1, 3)).isNull();
+            assertThat(new NumberParser().parse("1e5", 1, 3)).isNull();
+            assertThat(new NumberParser().parse("0bi", 1, 3)).isNull();
+        }
+
+        @Test
+        void empty_range() {
+            assertThat(new NumberParser().parse("123", 1, 1)).isNull();
+        }
+
+        @Test
+        void range_out_of_bounds() {
+            assertThrows(IndexOutOfBoundsException.class, () -> new NumberParser().parse("123", 2, 4));
+            assertThrows(IndexOutOfBoundsException.class, () -> new NumberParser().parse("123", 2, 1));
+        }
+
+        @Test
+        void overflow_message_is_range_content() {
+            assertThat(assertThrows(NumberOverflowException.class, () -> new NumberParser().parse("[128y]", 1, 5)))
+                    .hasMessageContaining("Cannon save [128y] with the given postfix type");
+        }
+    }
+
+    @Nested
+    class ParseBytes {
+
+        @Test
+        void parse_byte_array_range() {
+            byte[] bytes = "[1, 0x10, 1.5E1]".getBytes(StandardCharsets.UTF_8);
+
+            assertThat(new NumberParser().parse(bytes, 4, 4)).isEqualTo(16);
+            assertThat(new NumberParser().parse(bytes, 10, 5)).isEqualTo(15.0);
+        }
+
+        @Test
+        void parse_byte_buffer_from_position_to_limit() {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(16).put("[-12y]".getBytes(StandardCharsets.UTF_8));
+            buffer.position(1).limit(5);
+
+            assertThat(new NumberParser().parse(buffer)).isEqualTo((byte) -12);
+            assertThat(buffer.position()).isEqualTo(1);
+        }
+
+        @Test
+        void non_ascii_bytes_is_not_number() {
+            assertThat(new NumberParser().parse("1\u00e9".getBytes(StandardCharsets.UTF_8), 0, 3)).isNull();
+            assertThat(new NumberParser().parse("\uff11".getBytes(StandardCharsets.UTF_8), 0, 3)).isNull();
+        }
+
+        @Test
+        void non_ascii_in_eight_digits_is_not_number() {
+            assertThat(new NumberParser().parse("1234567\u0131")).isNull();
+            assertThat(new NumberParser().parse("1234567\u0131".toCharArray(), 0, 8)).isNull();
+            assertThat(new NumberParser().parse("12345678\u00e9".getBytes(StandardCharsets.UTF_8), 0, 10)).isNull();
+            assertThat(new NumberParser().parse("12345678901234567\u0131")).isNull();
+        }
+    }
+
     private void assertParseOverflow(String code) {
-        assertThat(assertThrows(NumberOverflowException.class, () -> new NumberParser().parse(code)))
-                .hasMessageContaining(String.format("Cannon save [%s] with the given postfix type", code));
+        for (Executable executable : new Executable[]{
+                () -> new NumberParser().parse(code),
+                () -> new NumberParser().parse(new StringBuilder("0.").append(code).append("_9"), 2, code.length() + 2),
+                () -> new NumberParser().parse(("0." + code + "_9").getBytes(StandardCharsets.US_ASCII), 2, code.length()),
+                () -> new NumberParser().parse(byteBuffer(code, false)),
+                () -> new NumberParser().parse(byteBuffer(code, true))})
+            assertThat(assertThrows(NumberOverflowException.class, executable))
+                    .hasMessageContaining(String.format("Cannon save [%s] with the given postfix type", code));
     }
 
     private void assertParse(String inputCode, Number expected) {
+        assertNumber(new NumberParser().parse(inputCode), expected);
+        if (inputCode != null) {
+            String padded = "0." + inputCode + "_9";
+            assertNumber(new NumberParser().parse(new StringBuilder(padded), 2, inputCode.length() + 2), expected);
+            assertNumber(new NumberParser().parse(padded.toCharArray(), 2, inputCode.length()), expected);
+            assertNumber(new NumberParser().parse(padded.getBytes(StandardCharsets.US_ASCII), 2, inputCode.length()), expected);
+            assertNumber(new NumberParser().parse(byteBuffer(inputCode, false)), expected);
+            assertNumber(new NumberParser().parse(byteBuffer(inputCode, true)), expected);
+        }
+    }
+
+    private ByteBuffer byteBuffer(String code, boolean direct) {
+        byte[] bytes = ("0." + code + "_9").getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(bytes.length) : ByteBuffer.allocate(bytes.length);
+        buffer.put(bytes).position(2).limit(code.length() + 2);
+        return buffer;
+    }
+
+    private void assertNumber(Number actual, Number expected) {
         if (expected instanceof BigDecimal) {
-            assertThat(((BigDecimal) new NumberParser().parse(inputCode)).subtract((BigDecimal) expected)).isZero();
+            assertThat(((BigDecimal) actual).subtract((BigDecimal) expected)).isZero();
         } else
-            assertThat(new NumberParser().parse(inputCode)).isEqualTo(expected);
+            assertThat(actual).isEqualTo(expected);
     }
 }
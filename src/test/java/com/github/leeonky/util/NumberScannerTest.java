@@ -0,0 +1,61 @@
+package com.github.leeonky.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NumberScannerTest {
+
+    @Test
+    void feed_chunks_and_end() {
+        NumberScanner scanner = new NumberScanner(new NumberParser());
+
+        assertThat(scanner.feed("-12", 0, 3).feed("345".toCharArray(), 0, 3).end()).isEqualTo(-12345);
+        assertThat(scanner.feed("9223372036", 0, 10).feed("854775807", 0, 9).end()).isEqualTo(Long.MAX_VALUE);
+        assertThat(scanner.feed("-9223372036854775", 0, 17).feed("808", 0, 3).end()).isEqualTo(Long.MIN_VALUE);
+        assertThat(scanner.feed("92233720368547758", 0, 17).feed("08", 0, 2).end())
+                .isEqualTo(new BigInteger("9223372036854775808"));
+        assertThat(scanner.feed("3.", 0, 2).feed("14", 0, 2).feed("f", 0, 1).end()).isEqualTo(3.14f);
+        assertThat(scanner.feed("0", 0, 1).feed("x1_0", 0, 4).end()).isEqualTo(16);
+        assertThat(scanner.feed("01", 0, 2).feed("0", 0, 1).end()).isEqualTo(8);
+        assertThat(scanner.feed("1e", 0, 2).feed("400", 0, 3).end()).isEqualTo(new BigDecimal("1e400"));
+        assertThat(scanner.feed(ByteBuffer.wrap("12bi".getBytes(StandardCharsets.US_ASCII))).end())
+                .isEqualTo(BigInteger.valueOf(12));
+    }
+
+    @Test
+    void same_as_parse() {
+        NumberScanner scanner = new NumberScanner(new NumberParser());
+        for (String code : new String[]{"0", "-0", "+0", "00", "2147483647", "2147483648", "-2147483648",
+                "-2147483649", "+1", "1_0", "1_", "-", "+", "", "--1", "+-1", "1-", "1.", ".5", "1y", "0b1"}) {
+            Object expected = new NumberParser().parse(code);
+            char[] chars = code.toCharArray();
+            for (int i = 0; i < chars.length; i++)
+                scanner.feed(chars, i, 1);
+            assertThat(scanner.end()).as(code).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void report_status_or_throw_like_parse() {
+        NumberScanner scanner = new NumberScanner(new NumberParser().withMaxDigits(3));
+        NumberResult result = new NumberResult();
+
+        assertThat(scanner.feed("12", 0, 2).feed("3", 0, 1).end(result)).isTrue();
+        assertThat(result.intValue()).isEqualTo(123);
+        assertThat(scanner.feed("12", 0, 2).feed("34", 0, 2).end(result)).isFalse();
+        assertThat(result.getStatus()).isEqualTo(NumberStatus.TOO_MANY_DIGITS);
+        assertThat(scanner.feed("x", 0, 1).end(result)).isFalse();
+        assertThat(result.getStatus()).isEqualTo(NumberStatus.NOT_NUMBER);
+        assertThat(assertThrows(NumberLimitExceededException.class, () -> scanner.feed("1234", 0, 4).end()))
+                .hasMessage("Number [1234] exceeds the max digits 3");
+        assertThrows(NumberOverflowException.class, () -> scanner.feed("12", 0, 2).feed("8y", 0, 2).end());
+        assertThat(scanner.feed("1", 0, 1).end()).isEqualTo(1);
+    }
+}
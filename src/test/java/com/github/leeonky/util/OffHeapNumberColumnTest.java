@@ -0,0 +1,77 @@
+package com.github.leeonky.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OffHeapNumberColumnTest {
+
+    private final NumberColumnParser parser = new NumberColumnParser(new NumberParser());
+
+    @Test
+    void off_heap_random_access_and_cursor() throws Exception {
+        try (OffHeapNumberColumn column = parser.parse(new String[]{"1", "2147483648", "1.5f", "0.25", "x",
+                "1bi", "1e400", "-1y", "7s"}, OffHeapNumberColumn.direct())) {
+            Number[] expected = {1, 2147483648L, 1.5f, 0.25, null, BigInteger.ONE, new BigDecimal("1e400"),
+                    (byte) -1, (short) 7};
+
+            assertThat(column.size()).isEqualTo(expected.length);
+            for (int i = 0; i < expected.length; i++)
+                assertThat(column.getNumber(i)).isEqualTo(expected[i]);
+            assertThat(column.getType(2)).isEqualTo(NumberType.FLOAT);
+            assertThat(column.getType(4)).isNull();
+            assertThat(column.isValid(4)).isFalse();
+            assertThat(column.getLong(1)).isEqualTo(2147483648L);
+            assertThat(column.getLong(3)).isZero();
+            assertThat(column.getDouble(0)).isEqualTo(1.0);
+            assertThat(column.getDouble(6)).isEqualTo(Double.POSITIVE_INFINITY);
+
+            OffHeapNumberColumn.Cursor cursor = column.cursor();
+            for (int i = 0; i < expected.length; i++) {
+                assertThat(cursor.next()).isTrue();
+                assertThat(cursor.index()).isEqualTo(i);
+                assertThat(cursor.getNumber()).isEqualTo(expected[i]);
+                assertThat(cursor.isValid()).isEqualTo(expected[i] != null);
+            }
+            assertThat(cursor.next()).isFalse();
+            assertThrows(IndexOutOfBoundsException.class, () -> column.getNumber(expected.length));
+        }
+    }
+
+    @Test
+    void off_heap_across_segments_in_mapped_file() throws Exception {
+        Path file = Files.createTempFile("number-column", ".bin");
+        try {
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 100; i++)
+                content.append(i == 0 ? "" : ",").append(i % 3 == 0 ? i + ".5" : String.valueOf(i));
+            try (OffHeapNumberColumn column = parser.parse(content, 0, content.length(), ',',
+                    new OffHeapNumberColumn(3, FileChannel.open(file, StandardOpenOption.READ,
+                            StandardOpenOption.WRITE), null))) {
+                assertThat(column.size()).isEqualTo(100);
+                OffHeapNumberColumn.Cursor cursor = column.cursor();
+                for (int i = 0; i < 100; i++) {
+                    assertThat(cursor.next()).isTrue();
+                    assertThat(cursor.getDouble()).isEqualTo(i % 3 == 0 ? i + 0.5 : i);
+                    assertThat(column.getNumber(i)).isEqualTo(i % 3 == 0 ? (Number) (i + 0.5) : i);
+                }
+            }
+            assertThat(Files.size(file)).isEqualTo(13 * 8 * 9);
+        } finally {
+            Files.delete(file);
+        }
+        try (OffHeapNumberColumn column = parser.parse(Arrays.asList("1", null), OffHeapNumberColumn.mapped())) {
+            assertThat(column.getNumber(0)).isEqualTo(1);
+            assertThat(column.getNumber(1)).isNull();
+        }
+    }
+}
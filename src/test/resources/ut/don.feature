@@ -24,6 +24,16 @@ Feature: support json value: boolean string null number
     = null
     """
 
+  Scenario: string
+    Given the following code:
+    """
+    "hello"
+    """
+    Then got the following data:
+    """
+    = 'hello' and class.simpleName: 'String'
+    """
+
   Scenario Outline: numbers
     Given the following code:
     """
@@ -37,3 +47,17 @@ Feature: support json value: boolean string null number
       | input | type    | result |
       | 1     | Integer | 1      |
       | 1.0   | Double  | 1.0    |
+
+  Scenario Outline: lazy numbers
+    Given the following code:
+    """
+    <input>
+    """
+    Then got the following lazy number:
+    """
+    = <result> and class.simpleName: '<type>'
+    """
+    Examples:
+      | input | type    | result |
+      | 1     | Integer | 1      |
+      | 1.0   | Double  | 1.0    |